@@ -234,6 +234,39 @@ public class Coord4D
 		return new Coord4D(tileEntity.getPos(), tileEntity.getWorld());
 	}
 
+	/**
+	 * Packs this Coord4D's position into a long, using the same layout as BlockPos.toLong(). The dimension is
+	 * not included, so packed positions should only be compared within a single dimension.
+	 * @return the packed position
+	 */
+	public long toLong()
+	{
+		return pack(xCoord, yCoord, zCoord);
+	}
+
+	/**
+	 * Packs a block position into a long, using the same layout as BlockPos.toLong().
+	 * @param x - x coordinate
+	 * @param y - y coordinate
+	 * @param z - z coordinate
+	 * @return the packed position
+	 */
+	public static long pack(int x, int y, int z)
+	{
+		return ((long)x & 0x3FFFFFFL) << 38 | ((long)y & 0xFFFL) << 26 | ((long)z & 0x3FFFFFFL);
+	}
+
+	/**
+	 * Returns a new Coord4D from a position packed with toLong().
+	 * @param packed - packed position
+	 * @param dimension - dimension ID
+	 * @return the Coord4D at the packed position
+	 */
+	public static Coord4D fromLong(long packed, int dimension)
+	{
+		return new Coord4D((int)(packed >> 38), (int)(packed << 26 >> 52), (int)(packed << 38 >> 38), dimension);
+	}
+
 	/**
 	 * Returns a new Coord4D from a tag compound.
 	 * @param tag - tag compound to read from
@@ -28,6 +28,7 @@ public class MekanismConfig
 		public static int VOICE_PORT = 36123;
 		public static int maxUpgradeMultiplier = 10;
 		public static int userWorldGenVersion = 0;
+		public static int worldRegenTickBudget = 16;
 		public static double ENERGY_PER_REDSTONE = 10000;
 		public static int ETHENE_BURN_TIME = 40;
 		public static double DISASSEMBLER_USAGE = 10;
@@ -69,6 +70,8 @@ public class MekanismConfig
 		public static double heatPerFuelTick = 4;
 		public static boolean allowTransmitterAlloyUpgrade;
 		public static boolean allowChunkloading;
+		public static int transporterPathCacheSize = 512;
+		public static int guiSyncInterval = 2;
 	}
 
 	public static class client
@@ -84,6 +87,7 @@ public class MekanismConfig
 		public static boolean enableAmbientLighting;
 		public static int ambientLightingLevel;
 		public static boolean opaqueTransmitters = false;
+		public static double transporterItemLODDistance = 24;
 	}
 	
 	public static class machines
@@ -99,6 +103,20 @@ public class MekanismConfig
 		{
 			config.put(type, enabled);
 		}
+		
+		private static Map<String, Integer> syncIntervals = new HashMap<String, Integer>();
+		
+		public static int getGuiSyncInterval(String type)
+		{
+			Integer interval = syncIntervals.get(type);
+			
+			return interval != null ? interval : general.guiSyncInterval;
+		}
+		
+		public static void setGuiSyncInterval(String type, int interval)
+		{
+			syncIntervals.put(type, interval);
+		}
 	}
 
 	public static class usage
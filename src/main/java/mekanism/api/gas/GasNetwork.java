@@ -1,10 +1,8 @@
 package mekanism.api.gas;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
@@ -20,8 +18,6 @@ import net.minecraftforge.fml.common.eventhandler.Event;
 
 import org.apache.commons.lang3.tuple.Pair;
 
-import com.google.common.collect.Lists;
-
 /**
  * A DynamicNetwork extension created specifically for the transfer of Gasses. By default this is server-only, but if ticked on
  * the client side and if it's posted events are handled properly, it has the capability to visually display gasses network-wide.
@@ -44,6 +40,14 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 
 	public int prevTransferAmount = 0;
 
+	private IGasHandler[] emitHandlers = new IGasHandler[0];
+	private EnumFacing[] emitSides = new EnumFacing[0];
+	private int[] emitDemands = new int[0];
+	private int[] emitShares = new int[0];
+
+	/** Stack handed to acceptors for simulated transfers in tickEmit, resized in place. Never used for real transfers. */
+	private GasStack emitStack;
+
 	public GasNetwork() {}
 
 	public GasNetwork(Collection<GasNetwork> networks)
@@ -140,50 +144,74 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 		return getCapacity()-(buffer != null ? buffer.amount : 0);
 	}
 
+	/**
+	 * Queries each acceptor once for how much of the gas it can take, then splits the stack between them
+	 * in proportion to their demand.
+	 * @return amount sent
+	 */
 	public int tickEmit(GasStack stack)
 	{
-		List<Pair<Coord4D, IGasHandler>> availableAcceptors = Lists.newArrayList();
+		refreshAcceptorTargets();
 
-		availableAcceptors.addAll(getAcceptors(stack.getGas()));
+		Gas type = stack.getGas();
 
-		Collections.shuffle(availableAcceptors);
+		if(emitStack == null || emitStack.getGas() != type)
+		{
+			emitStack = new GasStack(type, 0);
+		}
 
-		int toSend = stack.amount;
-		int prevSending = toSend;
+		int count = 0;
+		long totalDemand = 0;
 
-		if(!availableAcceptors.isEmpty())
+		for(AcceptorTarget<IGasHandler> target : acceptorTargets)
 		{
-			int divider = availableAcceptors.size();
-			int remaining = toSend % divider;
-			int sending = (toSend-remaining)/divider;
-
-			for(Pair<Coord4D, IGasHandler> pair : availableAcceptors)
+			if(target.tile.isInvalid())
 			{
-				IGasHandler acceptor = pair.getRight();
-				int currentSending = sending;
-				EnumSet<EnumFacing> sides = acceptorDirections.get(pair.getLeft());
+				acceptorsDirty = true;
+				continue;
+			}
 
-				if(remaining > 0)
-				{
-					currentSending++;
-					remaining--;
-				}
+			for(int i = 0; i < target.sides.length; i++)
+			{
+				IGasHandler acceptor = target.getAcceptor(i);
+				EnumFacing side = target.sides[i];
 
-				for(EnumFacing side : sides)
+				if(acceptor != null && acceptor.canReceiveGas(side, type))
 				{
-					int prev = toSend;
-
-					toSend -= acceptor.receiveGas(side, new GasStack(stack.getGas(), currentSending), true);
+					emitStack.amount = stack.amount;
+					int demand = acceptor.receiveGas(side, emitStack, false);
 
-					if(toSend < prev)
+					if(demand > 0)
 					{
-						break;
+						emitHandlers[count] = acceptor;
+						emitSides[count] = side;
+						emitDemands[count] = demand;
+						totalDemand += demand;
+						count++;
 					}
+
+					break;
 				}
 			}
 		}
 
-		int sent = prevSending-toSend;
+		int sent = 0;
+
+		if(count > 0)
+		{
+			splitByDemand(stack.amount, emitDemands, count, totalDemand, emitShares);
+
+			for(int i = 0; i < count; i++)
+			{
+				if(emitShares[i] > 0)
+				{
+					//A fresh stack, as handlers may keep the one they're given
+					sent += emitHandlers[i].receiveGas(emitSides[i], new GasStack(type, emitShares[i]), true);
+				}
+
+				emitHandlers[i] = null;
+			}
+		}
 
 		if(sent > 0 && FMLCommonHandler.instance().getEffectiveSide().isServer())
 		{
@@ -194,6 +222,31 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 		return sent;
 	}
 
+	@Override
+	protected void refreshAcceptorTargets()
+	{
+		super.refreshAcceptorTargets();
+
+		if(emitHandlers.length < acceptorTargets.size())
+		{
+			emitHandlers = new IGasHandler[acceptorTargets.size()];
+			emitSides = new EnumFacing[acceptorTargets.size()];
+			emitDemands = new int[acceptorTargets.size()];
+			emitShares = new int[acceptorTargets.size()];
+		}
+	}
+
+	@Override
+	protected IGasHandler resolveAcceptor(TileEntity tile, EnumFacing side)
+	{
+		if(CapabilityUtils.hasCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side))
+		{
+			return CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side);
+		}
+
+		return null;
+	}
+
 	public int emit(GasStack stack, boolean doTransfer)
 	{
 		if(buffer != null && buffer.getGas() != stack.getGas())
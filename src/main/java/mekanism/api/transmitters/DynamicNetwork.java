@@ -1,10 +1,13 @@
 package mekanism.api.transmitters;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -35,6 +38,26 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 	public HashMap<Coord4D, EnumSet<EnumFacing>> acceptorDirections = new HashMap<Coord4D, EnumSet<EnumFacing>>();
 	public HashMap<IGridTransmitter<A, N>, EnumSet<EnumFacing>> changedAcceptors = Maps.newHashMap();
 
+	/** Server-side position index of the committed transmitters, used to split the network incrementally. */
+	protected HashMap<Coord4D, IGridTransmitter<A, N>> transmitterCoords = Maps.newHashMap();
+	protected HashMap<IGridTransmitter<A, N>, Coord4D> transmitterPositions = Maps.newHashMap();
+
+	/** Incremented whenever the position index changes, so subclasses can rebuild topology caches lazily. */
+	protected int topologyVersion = 0;
+
+	/** Set whenever possibleAcceptors or acceptorDirections change, so subclasses can rebuild acceptor caches lazily. */
+	protected boolean acceptorsDirty = true;
+
+	/** Acceptors resolved from possibleAcceptors by refreshAcceptorTargets(), rebuilt in full only when acceptorsDirty is set. */
+	protected List<AcceptorTarget<A>> acceptorTargets = new ArrayList<AcceptorTarget<A>>();
+
+	/** How many refreshAcceptorTargets() calls to wait between attempts at resolving unresolvedAcceptors. */
+	private static final int ACCEPTOR_RETRY_DELAY = 20;
+
+	/** Acceptor locations left out of acceptorTargets because their tiles couldn't be found, e.g. as their chunks are still loading. */
+	private List<Coord4D> unresolvedAcceptors = new ArrayList<Coord4D>();
+	private int acceptorRetryTicks = 0;
+
 	private Set<DelayQueue> updateQueue = new LinkedHashSet<DelayQueue>();
 
 	protected Range4D packetRange = null;
@@ -74,6 +97,7 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 					transmitter.setTransmitterNetwork((N)this);
 					absorbBuffer(transmitter);
 					transmitters.add(transmitter);
+					indexTransmitter(transmitter);
 				}
 			}
 			
@@ -104,11 +128,48 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 		}
 	}
 
+	/**
+	 * Splits an amount between acceptors in proportion to how much each of them demands, without ever giving
+	 * an acceptor more than its demand. Runs in a single pass over the acceptors.
+	 * @param amount - amount to split
+	 * @param demands - demand of each acceptor
+	 * @param count - number of acceptors in the arrays
+	 * @param totalDemand - sum of all demands
+	 * @param shares - array the share of each acceptor is written to
+	 */
+	protected static void splitByDemand(int amount, int[] demands, int count, long totalDemand, int[] shares)
+	{
+		if(totalDemand <= amount)
+		{
+			System.arraycopy(demands, 0, shares, 0, count);
+			return;
+		}
+
+		int remaining = amount;
+
+		for(int i = 0; i < count; i++)
+		{
+			shares[i] = (int)(amount*(long)demands[i]/totalDemand);
+			remaining -= shares[i];
+		}
+
+		//Rounding leaves less than one unit per acceptor that was rounded down, so hand it out to those only
+		for(int i = 0; i < count && remaining > 0; i++)
+		{
+			if(shares[i] < demands[i])
+			{
+				shares[i]++;
+				remaining--;
+			}
+		}
+	}
+
 	public void updateTransmitterOnSide(IGridTransmitter<A, N> transmitter, EnumFacing side)
 	{
 		A acceptor = transmitter.getAcceptor(side);
 		Coord4D acceptorCoord = transmitter.coord().offset(side);
 		EnumSet<EnumFacing> directions = acceptorDirections.get(acceptorCoord);
+		acceptorsDirty = true;
 
 		if(acceptor != null)
 		{
@@ -141,6 +202,83 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 
 	}
 
+	/**
+	 * Brings acceptorTargets up to date before emitting. It is rebuilt from possibleAcceptors when acceptorsDirty is
+	 * set, resolving each acceptor's tile and its handler on every connected side through resolveAcceptor(). Otherwise
+	 * only the acceptors that couldn't be resolved are retried, once every ACCEPTOR_RETRY_DELAY calls.
+	 */
+	protected void refreshAcceptorTargets()
+	{
+		if(acceptorsDirty)
+		{
+			acceptorTargets = new ArrayList<AcceptorTarget<A>>();
+			unresolvedAcceptors.clear();
+
+			for(Coord4D coord : possibleAcceptors.keySet())
+			{
+				if(!addAcceptorTarget(coord))
+				{
+					unresolvedAcceptors.add(coord);
+				}
+			}
+
+			acceptorsDirty = false;
+			acceptorRetryTicks = ACCEPTOR_RETRY_DELAY;
+		}
+		else if(!unresolvedAcceptors.isEmpty() && --acceptorRetryTicks <= 0)
+		{
+			for(Iterator<Coord4D> iter = unresolvedAcceptors.iterator(); iter.hasNext();)
+			{
+				if(addAcceptorTarget(iter.next()))
+				{
+					iter.remove();
+				}
+			}
+
+			acceptorRetryTicks = ACCEPTOR_RETRY_DELAY;
+		}
+	}
+
+	/**
+	 * Resolves the acceptor at the given location and adds it to acceptorTargets.
+	 * @return false if the acceptor's tile couldn't be found
+	 */
+	private boolean addAcceptorTarget(Coord4D coord)
+	{
+		EnumSet<EnumFacing> sides = acceptorDirections.get(coord);
+
+		if(sides == null || sides.isEmpty())
+		{
+			return true;
+		}
+
+		TileEntity tile = coord.getTileEntity(getWorld());
+
+		if(tile == null)
+		{
+			return false;
+		}
+
+		AcceptorTarget<A> target = new AcceptorTarget<A>(tile, sides);
+
+		for(int i = 0; i < target.sides.length; i++)
+		{
+			target.acceptors[i] = resolveAcceptor(tile, target.sides[i]);
+		}
+
+		acceptorTargets.add(target);
+
+		return true;
+	}
+
+	/**
+	 * Gets the handler refreshAcceptorTargets() caches for a tile's side, or null if it can't accept anything there.
+	 */
+	protected A resolveAcceptor(TileEntity tile, EnumFacing side)
+	{
+		return null;
+	}
+
 	public abstract void absorbBuffer(IGridTransmitter<A, N> transmitter);
 
 	public abstract void clampBuffer();
@@ -178,6 +316,300 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 		deregister();
 	}
 
+	/**
+	 * Removes the given transmitters from this network and splits off only the parts of it that were
+	 * disconnected by the change, instead of orphaning every transmitter like invalidate() does.
+	 * @param changed - transmitters of this network that were invalidated or had their connections changed
+	 * @return false if the change can't be handled incrementally, in which case the network should be invalidated
+	 */
+	public boolean split(Collection<IGridTransmitter<A, N>> changed)
+	{
+		if(worldObj == null || worldObj.isRemote || transmitterPositions.size() != transmitters.size())
+		{
+			return false;
+		}
+
+		List<IGridTransmitter<A, N>> removed = new ArrayList<IGridTransmitter<A, N>>();
+		List<IGridTransmitter<A, N>> reconnected = new ArrayList<IGridTransmitter<A, N>>();
+
+		for(IGridTransmitter<A, N> transmitter : changed)
+		{
+			if(!transmitterPositions.containsKey(transmitter))
+			{
+				return false;
+			}
+
+			if(transmitter.isValid())
+			{
+				for(EnumFacing side : EnumFacing.VALUES)
+				{
+					Coord4D adjacent = transmitter.getAdjacentConnectableTransmitterCoord(side);
+
+					//Now touching another network, which needs a full rebuild to merge. New orphans merge in on their own.
+					if(adjacent != null && !transmitterCoords.containsKey(adjacent) && !TransmitterNetworkRegistry.isPendingOrphan(adjacent))
+					{
+						return false;
+					}
+				}
+
+				reconnected.add(transmitter);
+			}
+			else {
+				removed.add(transmitter);
+			}
+		}
+
+		Set<IGridTransmitter<A, N>> seeds = Sets.newLinkedHashSet();
+
+		for(IGridTransmitter<A, N> transmitter : removed)
+		{
+			Coord4D coord = removeTransmitter(transmitter);
+
+			for(EnumFacing side : EnumFacing.VALUES)
+			{
+				IGridTransmitter<A, N> adjacent = transmitterCoords.get(coord.offset(side));
+
+				if(adjacent != null && adjacent.isValid())
+				{
+					seeds.add(adjacent);
+				}
+			}
+		}
+
+		for(IGridTransmitter<A, N> transmitter : reconnected)
+		{
+			Coord4D coord = transmitterPositions.get(transmitter);
+			seeds.add(transmitter);
+
+			for(EnumFacing side : EnumFacing.VALUES)
+			{
+				IGridTransmitter<A, N> adjacent = transmitterCoords.get(coord.offset(side));
+
+				if(adjacent != null && adjacent.isValid())
+				{
+					seeds.add(adjacent);
+				}
+			}
+		}
+
+		if(transmitters.isEmpty())
+		{
+			deregister();
+			return true;
+		}
+
+		if(seeds.size() > 1)
+		{
+			for(List<IGridTransmitter<A, N>> component : findDisconnectedComponents(new ArrayList<IGridTransmitter<A, N>>(seeds)))
+			{
+				splitOff(component);
+			}
+		}
+
+		updateCapacity();
+		clampBuffer();
+
+		for(IGridTransmitter<A, N> transmitter : reconnected)
+		{
+			if(transmitterPositions.containsKey(transmitter))
+			{
+				for(EnumFacing side : EnumFacing.VALUES)
+				{
+					acceptorChanged(transmitter, side);
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Runs one breadth-first search per seed, interleaved a node at a time, and merges searches as soon as
+	 * they meet. Searches that run out of nodes before meeting the others are components that are no longer
+	 * connected to the rest of the network, so only those ever have to be walked completely.
+	 * @param seeds - transmitters adjacent to the change, at least one per resulting component
+	 * @return the components that should be split off into their own networks
+	 */
+	private List<List<IGridTransmitter<A, N>>> findDisconnectedComponents(List<IGridTransmitter<A, N>> seeds)
+	{
+		int count = seeds.size();
+		int[] parent = new int[count];
+		List<ArrayDeque<IGridTransmitter<A, N>>> frontiers = new ArrayList<ArrayDeque<IGridTransmitter<A, N>>>(count);
+		List<List<IGridTransmitter<A, N>>> members = new ArrayList<List<IGridTransmitter<A, N>>>(count);
+		HashMap<Coord4D, Integer> owners = Maps.newHashMap();
+
+		for(int i = 0; i < count; i++)
+		{
+			IGridTransmitter<A, N> seed = seeds.get(i);
+
+			parent[i] = i;
+			frontiers.add(new ArrayDeque<IGridTransmitter<A, N>>());
+			frontiers.get(i).add(seed);
+			members.add(Lists.newArrayList(seed));
+			owners.put(transmitterPositions.get(seed), i);
+		}
+
+		int searching = count;
+
+		while(searching > 1)
+		{
+			for(int i = 0; i < count; i++)
+			{
+				if(parent[i] != i || frontiers.get(i).isEmpty())
+				{
+					continue;
+				}
+
+				IGridTransmitter<A, N> transmitter = frontiers.get(i).poll();
+
+				for(EnumFacing side : EnumFacing.VALUES)
+				{
+					Coord4D adjacentCoord = transmitter.getAdjacentConnectableTransmitterCoord(side);
+					IGridTransmitter<A, N> adjacent = adjacentCoord != null ? transmitterCoords.get(adjacentCoord) : null;
+
+					if(adjacent == null || !adjacent.isValid())
+					{
+						continue;
+					}
+
+					Integer owner = owners.get(adjacentCoord);
+
+					if(owner == null)
+					{
+						owners.put(adjacentCoord, i);
+						frontiers.get(i).add(adjacent);
+						members.get(i).add(adjacent);
+					}
+					else {
+						int other = findRoot(parent, owner);
+
+						if(other != i)
+						{
+							parent[other] = i;
+							frontiers.get(i).addAll(frontiers.get(other));
+							members.get(i).addAll(members.get(other));
+							frontiers.get(other).clear();
+							members.get(other).clear();
+						}
+					}
+				}
+			}
+
+			searching = 0;
+
+			for(int i = 0; i < count; i++)
+			{
+				if(parent[i] == i && !frontiers.get(i).isEmpty())
+				{
+					searching++;
+				}
+			}
+		}
+
+		List<List<IGridTransmitter<A, N>>> components = new ArrayList<List<IGridTransmitter<A, N>>>();
+		List<IGridTransmitter<A, N>> largest = null;
+
+		for(int i = 0; i < count; i++)
+		{
+			if(parent[i] == i && frontiers.get(i).isEmpty())
+			{
+				components.add(members.get(i));
+
+				if(largest == null || members.get(i).size() > largest.size())
+				{
+					largest = members.get(i);
+				}
+			}
+		}
+
+		//Every search finished, so the largest component keeps this network
+		if(searching == 0)
+		{
+			components.remove(largest);
+		}
+
+		return components;
+	}
+
+	private static int findRoot(int[] parent, int i)
+	{
+		while(parent[i] != i)
+		{
+			parent[i] = parent[parent[i]];
+			i = parent[i];
+		}
+
+		return i;
+	}
+
+	/**
+	 * Moves a disconnected component into a new network, carrying its proportional share of the buffer with it.
+	 */
+	private void splitOff(List<IGridTransmitter<A, N>> component)
+	{
+		//Shares are calculated from the current network size, so update them all before anything is removed
+		for(IGridTransmitter<A, N> transmitter : component)
+		{
+			transmitter.updateShare();
+		}
+
+		N network = component.get(0).createEmptyNetwork();
+
+		for(IGridTransmitter<A, N> transmitter : component)
+		{
+			transmitter.takeShare();
+			removeTransmitter(transmitter);
+			transmitter.setTransmitterNetwork(network);
+		}
+
+		network.addNewTransmitters(component);
+		network.register();
+		TransmitterNetworkRegistry.registerChangedNetwork(network);
+	}
+
+	private void indexTransmitter(IGridTransmitter<A, N> transmitter)
+	{
+		Coord4D coord = transmitter.coord();
+
+		transmitterCoords.put(coord, transmitter);
+		transmitterPositions.put(transmitter, coord);
+		topologyVersion++;
+	}
+
+	/**
+	 * Removes a transmitter and the acceptor directions it contributed from this network.
+	 * @return the position the transmitter was indexed at
+	 */
+	private Coord4D removeTransmitter(IGridTransmitter<A, N> transmitter)
+	{
+		Coord4D coord = transmitterPositions.remove(transmitter);
+
+		transmitterCoords.remove(coord);
+		transmitters.remove(transmitter);
+		topologyVersion++;
+		changedAcceptors.remove(transmitter);
+
+		for(EnumFacing side : EnumFacing.VALUES)
+		{
+			Coord4D acceptorCoord = coord.offset(side);
+			EnumSet<EnumFacing> directions = acceptorDirections.get(acceptorCoord);
+
+			if(directions != null)
+			{
+				directions.remove(side.getOpposite());
+				acceptorsDirty = true;
+
+				if(directions.isEmpty())
+				{
+					possibleAcceptors.remove(acceptorCoord);
+					acceptorDirections.remove(acceptorCoord);
+				}
+			}
+		}
+
+		return coord;
+	}
+
 	public void invalidateTransmitter(IGridTransmitter<A, N> transmitter)
 	{
 		if(!worldObj.isRemote && transmitter.isValid())
@@ -212,7 +644,11 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 			transmittersAdded.add(transmitter);
 		}
 		
+		transmitterCoords.putAll(net.transmitterCoords);
+		transmitterPositions.putAll(net.transmitterPositions);
+		topologyVersion++;
 		possibleAcceptors.putAll(net.possibleAcceptors);
+		acceptorsDirty = true;
 		
 		for(Entry<Coord4D, EnumSet<EnumFacing>> entry : net.acceptorDirections.entrySet())
 		{
@@ -286,6 +722,9 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 	public void deregister()
 	{
 		transmitters.clear();
+		transmitterCoords.clear();
+		transmitterPositions.clear();
+		topologyVersion++;
 
 		if(FMLCommonHandler.instance().getEffectiveSide().isServer())
 		{
@@ -397,6 +836,29 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 		updateDelay = 3;
 	}
 
+	/**
+	 * An acceptor tile and the handler it exposes on each side this network touches it from.
+	 */
+	protected static class AcceptorTarget<A>
+	{
+		public final TileEntity tile;
+		public final EnumFacing[] sides;
+
+		private final Object[] acceptors;
+
+		public AcceptorTarget(TileEntity tileEntity, EnumSet<EnumFacing> directions)
+		{
+			tile = tileEntity;
+			sides = directions.toArray(new EnumFacing[directions.size()]);
+			acceptors = new Object[sides.length];
+		}
+
+		public A getAcceptor(int index)
+		{
+			return (A)acceptors[index];
+		}
+	}
+
 	public static class TransmittersAddedEvent extends Event
 	{
 		public DynamicNetwork<?, ?> network;
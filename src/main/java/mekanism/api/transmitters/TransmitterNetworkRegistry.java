@@ -1,11 +1,16 @@
 package mekanism.api.transmitters;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
+import java.util.Map.Entry;
 
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
+import mekanism.api.util.LongHashSet;
+import mekanism.api.util.LongObjectMap;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -16,6 +21,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
@@ -29,8 +35,9 @@ public class TransmitterNetworkRegistry
 
 	private HashSet<IGridTransmitter> invalidTransmitters = Sets.newHashSet();
 	 
-	private HashMap<Coord4D, IGridTransmitter> orphanTransmitters = Maps.newHashMap();
-	private HashMap<Coord4D, IGridTransmitter> newOrphanTransmitters = Maps.newHashMap();
+	/** Orphans keyed by dimension, then by packed position. The two maps are swapped each tick rather than copied. */
+	private HashMap<Integer, LongObjectMap<IGridTransmitter>> orphanTransmitters = Maps.newHashMap();
+	private HashMap<Integer, LongObjectMap<IGridTransmitter>> newOrphanTransmitters = Maps.newHashMap();
 
 	private Logger logger = LogManager.getLogger("MekanismTransmitters");
 
@@ -60,7 +67,22 @@ public class TransmitterNetworkRegistry
 
 	public static void registerOrphanTransmitter(IGridTransmitter transmitter)
 	{
-		getInstance().newOrphanTransmitters.put(transmitter.coord(), transmitter);
+		Coord4D coord = transmitter.coord();
+		LongObjectMap<IGridTransmitter> orphans = getInstance().newOrphanTransmitters.get(coord.dimensionId);
+		
+		if(orphans == null)
+		{
+			getInstance().newOrphanTransmitters.put(coord.dimensionId, orphans = new LongObjectMap<IGridTransmitter>());
+		}
+		
+		orphans.put(coord.toLong(), transmitter);
+	}
+
+	static boolean isPendingOrphan(Coord4D coord)
+	{
+		LongObjectMap<IGridTransmitter> orphans = getInstance().newOrphanTransmitters.get(coord.dimensionId);
+		
+		return orphans != null && orphans.containsKey(coord.toLong());
 	}
 
 	public static void registerChangedNetwork(DynamicNetwork network)
@@ -116,6 +138,11 @@ public class TransmitterNetworkRegistry
 			logger.info("Dealing with " + invalidTransmitters.size() + " invalid Transmitters");
 		}
 		
+		long start = System.nanoTime();
+		int split = 0, rebuilt = 0;
+
+		HashMap<DynamicNetwork, List<IGridTransmitter>> changes = Maps.newHashMap();
+		
 		for(IGridTransmitter invalid : invalidTransmitters)
 		{
 			if(!(invalid.isOrphan() && invalid.isValid()))
@@ -124,36 +151,74 @@ public class TransmitterNetworkRegistry
 				
 				if(n != null)
 				{
-					n.invalidate();
+					List<IGridTransmitter> changed = changes.get(n);
+					
+					if(changed == null)
+					{
+						changes.put(n, changed = Lists.newArrayList());
+					}
+					
+					changed.add(invalid);
 				}
 			}
 		}
 		
+		for(Entry<DynamicNetwork, List<IGridTransmitter>> entry : changes.entrySet())
+		{
+			if(entry.getKey().split(entry.getValue()))
+			{
+				split++;
+			}
+			else {
+				entry.getKey().invalidate();
+				rebuilt++;
+			}
+		}
+		
+		if(MekanismAPI.debug && !changes.isEmpty())
+		{
+			logger.info("Split " + split + " networks incrementally and invalidated " + rebuilt + " for a full rebuild in " + (System.nanoTime()-start)/1000 + "us");
+		}
+		
 		invalidTransmitters.clear();
 	}
 
 	public void assignOrphans()
 	{
-		orphanTransmitters = (HashMap<Coord4D, IGridTransmitter>)newOrphanTransmitters.clone();
-		newOrphanTransmitters.clear();
+		HashMap<Integer, LongObjectMap<IGridTransmitter>> swap = orphanTransmitters;
+		orphanTransmitters = newOrphanTransmitters;
+		newOrphanTransmitters = swap;
 		
-		if(MekanismAPI.debug && !orphanTransmitters.isEmpty())
+		if(MekanismAPI.debug)
 		{
-			logger.info("Dealing with " + orphanTransmitters.size() + " orphan Transmitters");
+			int count = 0;
+			
+			for(LongObjectMap<IGridTransmitter> orphans : orphanTransmitters.values())
+			{
+				count += orphans.size();
+			}
+			
+			if(count > 0)
+			{
+				logger.info("Dealing with " + count + " orphan Transmitters");
+			}
 		}
 		
-		for(IGridTransmitter orphanTransmitter : ((Map<Coord4D, IGridTransmitter>)orphanTransmitters.clone()).values())
+		for(LongObjectMap<IGridTransmitter> orphans : orphanTransmitters.values())
 		{
-			DynamicNetwork network = getNetworkFromOrphan(orphanTransmitter);
-			
-			if(network != null)
+			for(IGridTransmitter orphanTransmitter : orphans.values())
 			{
-				networksToChange.add(network);
-				network.register();
+				DynamicNetwork network = getNetworkFromOrphan(orphanTransmitter);
+				
+				if(network != null)
+				{
+					networksToChange.add(network);
+					network.register();
+				}
 			}
+			
+			orphans.clear();
 		}
-		
-		orphanTransmitters.clear();
 	}
 
 	public <A, N extends DynamicNetwork<A, N>> DynamicNetwork<A, N> getNetworkFromOrphan(IGridTransmitter<A, N> startOrphan)
@@ -234,11 +299,14 @@ public class TransmitterNetworkRegistry
 	{
 		public IGridTransmitter<A, N> startPoint;
 
-		public HashSet<Coord4D> iterated = Sets.newHashSet();
+		public LongHashSet iterated = new LongHashSet();
 
-		public HashSet<IGridTransmitter<A, N>> connectedTransmitters = Sets.newHashSet();
+		public ArrayList<IGridTransmitter<A, N>> connectedTransmitters = new ArrayList<IGridTransmitter<A, N>>();
 		public HashSet<N> networksFound = Sets.newHashSet();
 
+		private LongObjectMap<IGridTransmitter> orphans;
+		private ArrayDeque<IGridTransmitter<A, N>> toExpand = new ArrayDeque<IGridTransmitter<A, N>>();
+
 		public OrphanPathFinder(IGridTransmitter<A, N> start)
 		{
 			startPoint = start;
@@ -246,39 +314,46 @@ public class TransmitterNetworkRegistry
 
 		public void start()
 		{
-			iterate(startPoint.coord(), null);
+			Coord4D startCoord = startPoint.coord();
+			orphans = orphanTransmitters.get(startCoord.dimensionId);
+			
+			visit(startCoord);
+
+			//Breadth-first with an explicit queue, so long transmitter runs can't overflow the stack
+			while(!toExpand.isEmpty())
+			{
+				IGridTransmitter<A, N> transmitter = toExpand.poll();
+				
+				for(EnumFacing direction : EnumFacing.VALUES)
+				{
+					Coord4D directionCoord = transmitter.getAdjacentConnectableTransmitterCoord(direction);
+					
+					if(directionCoord != null)
+					{
+						visit(directionCoord);
+					}
+				}
+			}
 		}
 
-		public void iterate(Coord4D from, EnumFacing fromDirection)
+		public void visit(Coord4D from)
 		{
-			if(iterated.contains(from))
+			long packed = from.toLong();
+			
+			if(!iterated.add(packed))
 			{
 				return;
 			}
-
-			iterated.add(from);
 			
-			if(orphanTransmitters.containsKey(from))
+			IGridTransmitter<A, N> transmitter = orphans != null ? orphans.get(packed) : null;
+			
+			if(transmitter != null)
 			{
-				IGridTransmitter<A, N> transmitter = orphanTransmitters.get(from);
-				
 				if(transmitter.isValid() && transmitter.isOrphan())
 				{
 					connectedTransmitters.add(transmitter);
 					transmitter.setOrphan(false);
-					
-					for(EnumFacing direction : EnumFacing.VALUES)
-					{
-						if(direction != fromDirection)
-						{
-							Coord4D directionCoord = transmitter.getAdjacentConnectableTransmitterCoord(direction);
-							
-							if(!(directionCoord == null || iterated.contains(directionCoord)))
-							{
-								iterate(directionCoord, direction.getOpposite());
-							}
-						}
-					}
+					toExpand.add(transmitter);
 				}
 			} 
 			else {
@@ -0,0 +1,168 @@
+package mekanism.api.util;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash set of primitive longs, used for packed positions so lookups don't box a Long
+ * or allocate a Coord4D per entry.
+ */
+public class LongHashSet
+{
+	private long[] keys;
+	private boolean[] used;
+
+	private int size;
+	private int mask;
+	private int resizeAt;
+
+	public LongHashSet()
+	{
+		this(16);
+	}
+
+	public LongHashSet(int expected)
+	{
+		allocate(LongObjectMap.tableSize(expected));
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new long[capacity];
+		used = new boolean[capacity];
+		mask = capacity-1;
+		resizeAt = capacity*3/4;
+	}
+
+	/**
+	 * Adds a key to this set.
+	 * @param key - key to add
+	 * @return true if the key wasn't already present
+	 */
+	public boolean add(long key)
+	{
+		int slot = LongObjectMap.hash(key) & mask;
+
+		while(used[slot])
+		{
+			if(keys[slot] == key)
+			{
+				return false;
+			}
+
+			slot = (slot+1) & mask;
+		}
+
+		keys[slot] = key;
+		used[slot] = true;
+
+		if(++size > resizeAt)
+		{
+			rehash(keys.length*2);
+		}
+
+		return true;
+	}
+
+	public boolean contains(long key)
+	{
+		int slot = LongObjectMap.hash(key) & mask;
+
+		while(used[slot])
+		{
+			if(keys[slot] == key)
+			{
+				return true;
+			}
+
+			slot = (slot+1) & mask;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Removes a key from this set, shifting back any entries that probed past it.
+	 * @param key - key to remove
+	 * @return true if the key was present
+	 */
+	public boolean remove(long key)
+	{
+		int slot = LongObjectMap.hash(key) & mask;
+
+		while(used[slot])
+		{
+			if(keys[slot] == key)
+			{
+				shiftBack(slot);
+				size--;
+				return true;
+			}
+
+			slot = (slot+1) & mask;
+		}
+
+		return false;
+	}
+
+	private void shiftBack(int slot)
+	{
+		int last = slot;
+
+		while(true)
+		{
+			slot = (slot+1) & mask;
+
+			if(!used[slot])
+			{
+				break;
+			}
+
+			int home = LongObjectMap.hash(keys[slot]) & mask;
+
+			//Only move entries whose home slot isn't between the gap and their current slot
+			if(last <= slot ? (last >= home || home > slot) : (last >= home && home > slot))
+			{
+				keys[last] = keys[slot];
+				last = slot;
+			}
+		}
+
+		used[last] = false;
+	}
+
+	private void rehash(int capacity)
+	{
+		long[] oldKeys = keys;
+		boolean[] oldUsed = used;
+
+		allocate(capacity);
+		size = 0;
+
+		for(int i = 0; i < oldKeys.length; i++)
+		{
+			if(oldUsed[i])
+			{
+				add(oldKeys[i]);
+			}
+		}
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public void clear()
+	{
+		if(size > 0)
+		{
+			Arrays.fill(used, false);
+			size = 0;
+		}
+	}
+}
@@ -0,0 +1,247 @@
+package mekanism.api.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An open-addressing hash map from primitive longs to objects, used for packed positions so lookups don't box
+ * a Long or allocate a Coord4D per entry.
+ */
+public class LongObjectMap<V>
+{
+	private long[] keys;
+	private Object[] values;
+	private boolean[] used;
+
+	private int size;
+	private int mask;
+	private int resizeAt;
+
+	public LongObjectMap()
+	{
+		this(16);
+	}
+
+	public LongObjectMap(int expected)
+	{
+		allocate(tableSize(expected));
+	}
+
+	static int hash(long key)
+	{
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32));
+	}
+
+	static int tableSize(int expected)
+	{
+		int capacity = 16;
+
+		while(capacity*3/4 < expected)
+		{
+			capacity <<= 1;
+		}
+
+		return capacity;
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new long[capacity];
+		values = new Object[capacity];
+		used = new boolean[capacity];
+		mask = capacity-1;
+		resizeAt = capacity*3/4;
+	}
+
+	private int find(long key)
+	{
+		int slot = hash(key) & mask;
+
+		while(used[slot])
+		{
+			if(keys[slot] == key)
+			{
+				return slot;
+			}
+
+			slot = (slot+1) & mask;
+		}
+
+		return -1;
+	}
+
+	public V get(long key)
+	{
+		int slot = find(key);
+		return slot >= 0 ? (V)values[slot] : null;
+	}
+
+	public boolean containsKey(long key)
+	{
+		return find(key) >= 0;
+	}
+
+	/**
+	 * Maps a key to a value, replacing any previous mapping.
+	 * @param key - key to map
+	 * @param value - value to map the key to
+	 * @return the previous value, or null if there was none
+	 */
+	public V put(long key, V value)
+	{
+		int slot = hash(key) & mask;
+
+		while(used[slot])
+		{
+			if(keys[slot] == key)
+			{
+				V prev = (V)values[slot];
+				values[slot] = value;
+				return prev;
+			}
+
+			slot = (slot+1) & mask;
+		}
+
+		keys[slot] = key;
+		values[slot] = value;
+		used[slot] = true;
+
+		if(++size > resizeAt)
+		{
+			rehash(keys.length*2);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Removes a key from this map, shifting back any entries that probed past it.
+	 * @param key - key to remove
+	 * @return the removed value, or null if the key wasn't present
+	 */
+	public V remove(long key)
+	{
+		int slot = find(key);
+
+		if(slot < 0)
+		{
+			return null;
+		}
+
+		V prev = (V)values[slot];
+		int last = slot;
+
+		while(true)
+		{
+			slot = (slot+1) & mask;
+
+			if(!used[slot])
+			{
+				break;
+			}
+
+			int home = hash(keys[slot]) & mask;
+
+			//Only move entries whose home slot isn't between the gap and their current slot
+			if(last <= slot ? (last >= home || home > slot) : (last >= home && home > slot))
+			{
+				keys[last] = keys[slot];
+				values[last] = values[slot];
+				last = slot;
+			}
+		}
+
+		used[last] = false;
+		values[last] = null;
+		size--;
+
+		return prev;
+	}
+
+	private void rehash(int capacity)
+	{
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		boolean[] oldUsed = used;
+
+		allocate(capacity);
+		size = 0;
+
+		for(int i = 0; i < oldKeys.length; i++)
+		{
+			if(oldUsed[i])
+			{
+				put(oldKeys[i], (V)oldValues[i]);
+			}
+		}
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public void clear()
+	{
+		if(size > 0)
+		{
+			Arrays.fill(used, false);
+			Arrays.fill(values, null);
+			size = 0;
+		}
+	}
+
+	/**
+	 * Iterates over the values of this map. The map must not be modified while iterating.
+	 */
+	public Iterable<V> values()
+	{
+		return new Iterable<V>() {
+			@Override
+			public Iterator<V> iterator()
+			{
+				return new Iterator<V>() {
+					private int next = advance(0);
+
+					private int advance(int from)
+					{
+						while(from < used.length && !used[from])
+						{
+							from++;
+						}
+
+						return from;
+					}
+
+					@Override
+					public boolean hasNext()
+					{
+						return next < used.length;
+					}
+
+					@Override
+					public V next()
+					{
+						if(!hasNext())
+						{
+							throw new NoSuchElementException();
+						}
+
+						V value = (V)values[next];
+						next = advance(next+1);
+
+						return value;
+					}
+				};
+			}
+		};
+	}
+}
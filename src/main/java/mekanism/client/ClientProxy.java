@@ -279,6 +279,8 @@ public class ClientProxy extends CommonProxy
 		client.enableAmbientLighting = Mekanism.configuration.get("client", "EnableAmbientLighting", true).getBoolean();
 		client.ambientLightingLevel = Mekanism.configuration.get("client", "AmbientLightingLevel", 15).getInt();
 		client.opaqueTransmitters = Mekanism.configuration.get("client", "OpaqueTransmitterRender", false).getBoolean();
+		client.transporterItemLODDistance = Mekanism.configuration.get("client", "TransporterItemLODDistance", 24D,
+				"Beyond this many blocks, items in logistical transporters are rendered as simple boxes.").getDouble();
 
 		if(Mekanism.configuration.hasChanged())
 		{
@@ -8,6 +8,7 @@ import mekanism.client.model.ModelTransporterBox;
 import mekanism.client.render.MekanismRenderer;
 import mekanism.client.render.MekanismRenderer.DisplayInteger;
 import mekanism.client.render.MekanismRenderer.Model3D;
+import mekanism.common.HashList;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.item.ItemConfigurator;
 import mekanism.common.multipart.PartDiversionTransporter;
@@ -15,18 +16,19 @@ import mekanism.common.multipart.PartLogisticalTransporter;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.MekanismUtils.ResourceType;
 import mekanism.common.util.TransporterUtils;
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.entity.Render;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.RenderItem;
+import net.minecraft.client.renderer.block.model.IBakedModel;
+import net.minecraft.client.renderer.block.model.ItemCameraTransforms.TransformType;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.renderer.texture.TextureMap;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.World;
+import net.minecraftforge.client.ForgeHooksClient;
 
 import org.lwjgl.opengl.GL11;
 
@@ -34,16 +36,14 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<PartLogis
 {
 	private ModelTransporterBox modelBox = new ModelTransporterBox();
 	
-	private EntityItem entityItem = new EntityItem(null);
-	
-	private Render<Entity> renderer = (Render<Entity>)Minecraft.getMinecraft().getRenderManager().getEntityClassRenderObject(EntityItem.class);
-	
 	private static HashMap<EnumFacing, HashMap<Integer, DisplayInteger>> cachedOverlays = new HashMap<EnumFacing, HashMap<Integer, DisplayInteger>>();
 	
 	private static TextureAtlasSprite gunpowderIcon;
 	private static TextureAtlasSprite torchOffIcon;
 	private static TextureAtlasSprite torchOnIcon;
 	
+	private float[][] stackPositions = new float[8][];
+	
 	public RenderLogisticalTransporter()
 	{
 		super();
@@ -59,41 +59,29 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<PartLogis
 		
 		GL11.glPushMatrix();
 
-		entityItem.setNoDespawn();
-		entityItem.hoverStart = 0;
-
-		entityItem.setPosition(transporter.getPos().getX() + 0.5, transporter.getPos().getY() + 0.5, transporter.getPos().getZ() + 0.5);
-		entityItem.worldObj = transporter.getWorld();
-
-		for(TransporterStack stack : transporter.getTransmitter().transit.clone())
+		HashList<TransporterStack> transit = transporter.getTransmitter().transit;
+		int count = transit.size();
+		
+		if(stackPositions.length < count)
 		{
-			if(stack != null)
-			{
-				GL11.glPushMatrix();
-				entityItem.setEntityItemStack(stack.itemStack);
-
-				float[] pos = TransporterUtils.getStackPosition(transporter.getTransmitter(), stack, partialTick*transporter.tier.speed);
-
-				GL11.glTranslated(x + pos[0], y + pos[1], z + pos[2]);
-				GL11.glScalef(0.75F, 0.75F, 0.75F);
-
-				renderer.doRender(entityItem, 0, 0, 0, 0, 0);
-				GL11.glPopMatrix();
-
-				if(stack.color != null)
-				{
-					bindTexture(MekanismUtils.getResource(ResourceType.RENDER, "TransporterBox.png"));
-					GL11.glPushMatrix();
-					MekanismRenderer.glowOn();
-					GL11.glDisable(GL11.GL_CULL_FACE);
-					GL11.glColor4f(stack.color.getColor(0), stack.color.getColor(1), stack.color.getColor(2), 1.0F);
-					GL11.glTranslatef((float)(x + pos[0]), (float)(y + pos[1]), (float)(z + pos[2]));
-					modelBox.render(0.0625F);
-					MekanismRenderer.glowOff();
-					GL11.glPopMatrix();
-				}
-			}
+			stackPositions = new float[count][];
+		}
+		
+		for(int i = 0; i < count; i++)
+		{
+			TransporterStack stack = transit.get(i);
+			
+			stackPositions[i] = stack != null ? TransporterUtils.getStackPosition(transporter.getTransmitter(), stack, partialTick*transporter.tier.speed) : null;
+		}
+		
+		boolean detailed = x*x + y*y + z*z <= client.transporterItemLODDistance*client.transporterItemLODDistance;
+		
+		if(detailed)
+		{
+			renderItems(transporter, transit, count, x, y, z);
 		}
+		
+		renderBoxes(transit, count, x, y, z, !detailed);
 
 		if(transporter instanceof PartDiversionTransporter)
 		{
@@ -130,6 +118,99 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<PartLogis
 		GL11.glPopMatrix();
 	}
 	
+	/**
+	 * Draws the items of all stacks in one go, with the item texture and render state set up once rather than
+	 * per stack.
+	 */
+	private void renderItems(PartLogisticalTransporter transporter, HashList<TransporterStack> transit, int count, double x, double y, double z)
+	{
+		RenderItem renderItem = mc.getRenderItem();
+		
+		bindTexture(MekanismRenderer.getBlocksTexture());
+		GlStateManager.enableRescaleNormal();
+		GlStateManager.alphaFunc(516, 0.1F);
+		GlStateManager.enableBlend();
+		GlStateManager.tryBlendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ZERO);
+		
+		for(int i = 0; i < count; i++)
+		{
+			TransporterStack stack = transit.get(i);
+			float[] pos = stackPositions[i];
+			
+			if(stack == null || pos == null || stack.itemStack == null)
+			{
+				continue;
+			}
+			
+			//The mesher already caches simple items, and mesh definitions may depend on NBT
+			IBakedModel model = renderItem.getItemModelWithOverrides(stack.itemStack, transporter.getWorld(), null);
+			float groundScale = model.getItemCameraTransforms().getTransform(TransformType.GROUND).scale.y;
+			
+			GlStateManager.pushMatrix();
+			GlStateManager.translate(x + pos[0], y + pos[1], z + pos[2]);
+			GlStateManager.scale(0.75F, 0.75F, 0.75F);
+			//Same resting height as a dropped item
+			GlStateManager.translate(0, 0.1F + 0.25F*groundScale, 0);
+			
+			model = ForgeHooksClient.handleCameraTransforms(model, TransformType.GROUND, false);
+			renderItem.renderItem(stack.itemStack, model);
+			
+			GlStateManager.popMatrix();
+		}
+		
+		GlStateManager.disableRescaleNormal();
+		GlStateManager.disableBlend();
+	}
+	
+	/**
+	 * Draws the colored boxes around stacks. Past the LOD distance, every stack is drawn as a box, uncolored ones in white.
+	 */
+	private void renderBoxes(HashList<TransporterStack> transit, int count, double x, double y, double z, boolean allStacks)
+	{
+		boolean started = false;
+		
+		for(int i = 0; i < count; i++)
+		{
+			TransporterStack stack = transit.get(i);
+			float[] pos = stackPositions[i];
+			
+			if(stack == null || pos == null || (stack.color == null && !allStacks))
+			{
+				continue;
+			}
+			
+			if(!started)
+			{
+				bindTexture(MekanismUtils.getResource(ResourceType.RENDER, "TransporterBox.png"));
+				GL11.glPushAttrib(GL11.GL_ENABLE_BIT);
+				MekanismRenderer.glowOn();
+				GL11.glDisable(GL11.GL_CULL_FACE);
+				started = true;
+			}
+			
+			GL11.glPushMatrix();
+			
+			if(stack.color != null)
+			{
+				GL11.glColor4f(stack.color.getColor(0), stack.color.getColor(1), stack.color.getColor(2), 1.0F);
+			}
+			else {
+				GL11.glColor4f(1.0F, 1.0F, 1.0F, 1.0F);
+			}
+			
+			GL11.glTranslatef((float)(x + pos[0]), (float)(y + pos[1]), (float)(z + pos[2]));
+			modelBox.render(0.0625F);
+			GL11.glPopMatrix();
+		}
+		
+		if(started)
+		{
+			MekanismRenderer.glowOff();
+			GL11.glPopAttrib();
+			GL11.glColor4f(1.0F, 1.0F, 1.0F, 1.0F);
+		}
+	}
+	
 	private DisplayInteger getOverlayDisplay(World world, EnumFacing side, int mode)
 	{
 		if(cachedOverlays.containsKey(side) && cachedOverlays.get(side).containsKey(mode))
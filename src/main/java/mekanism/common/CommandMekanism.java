@@ -6,8 +6,10 @@ import java.util.List;
 import mekanism.api.EnumColor;
 import mekanism.api.MekanismAPI;
 import mekanism.api.MekanismConfig.general;
+import mekanism.common.base.ISleepable;
 import mekanism.common.frequency.Frequency;
 import mekanism.common.frequency.FrequencyManager;
+import mekanism.common.tile.TileEntityBasicBlock;
 import mekanism.common.tile.TileEntityTeleporter;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.command.CommandBase;
@@ -15,7 +17,9 @@ import net.minecraft.command.ICommand;
 import net.minecraft.command.ICommandSender;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 
 public class CommandMekanism extends CommandBase
@@ -71,6 +75,8 @@ public class CommandMekanism extends CommandBase
 					sender.addChatMessage(new TextComponentString(EnumColor.INDIGO + " /mk news" + EnumColor.GREY + " -- displays most recent recent news."));
 					sender.addChatMessage(new TextComponentString(EnumColor.INDIGO + " /mk debug" + EnumColor.GREY + " -- toggles Mekanism's debug mode."));
 					sender.addChatMessage(new TextComponentString(EnumColor.INDIGO + " /mk teleporter" + EnumColor.GREY + " -- provides information on teleporters."));
+					sender.addChatMessage(new TextComponentString(EnumColor.INDIGO + " /mk machines" + EnumColor.GREY + " -- displays how many machines are sleeping in each dimension."));
+					sender.addChatMessage(new TextComponentString(EnumColor.INDIGO + " /mk retrogen" + EnumColor.GREY + " -- displays the progress of ore regeneration."));
 					sender.addChatMessage(new TextComponentString(EnumColor.GREY + "------------- " + EnumColor.DARK_BLUE + "[=======]" + EnumColor.GREY + " -------------"));
 				}
 				else if(params[1].equalsIgnoreCase("teleporter"))
@@ -195,6 +201,48 @@ public class CommandMekanism extends CommandBase
 					}
 				}
 			}
+			else if(params[0].equalsIgnoreCase("machines"))
+			{
+				sender.addChatMessage(new TextComponentString(EnumColor.GREY + "------------- " + EnumColor.DARK_BLUE + "[Mekanism]" + EnumColor.GREY + " -------------"));
+				
+				for(WorldServer world : server.worldServers)
+				{
+					int sleeping = 0;
+					int awake = 0;
+					
+					for(TileEntity tile : world.loadedTileEntityList)
+					{
+						if(tile instanceof ISleepable)
+						{
+							if(((TileEntityBasicBlock)tile).sleeping)
+							{
+								sleeping++;
+							}
+							else {
+								awake++;
+							}
+						}
+					}
+					
+					sender.addChatMessage(new TextComponentString(EnumColor.INDIGO + " - " + world.provider.getDimension() + EnumColor.GREY + ": " + sleeping + " sleeping, " + awake + " awake"));
+				}
+				
+				sender.addChatMessage(new TextComponentString(EnumColor.GREY + "------------- " + EnumColor.DARK_BLUE + "[=======]" + EnumColor.GREY + " -------------"));
+			}
+			else if(params[0].equalsIgnoreCase("retrogen"))
+			{
+				sender.addChatMessage(new TextComponentString(EnumColor.GREY + "------------- " + EnumColor.DARK_BLUE + "[Mekanism]" + EnumColor.GREY + " -------------"));
+				
+				for(WorldServer world : server.worldServers)
+				{
+					int dimensionId = world.provider.getDimension();
+					
+					sender.addChatMessage(new TextComponentString(EnumColor.INDIGO + " - " + dimensionId + EnumColor.GREY + ": " + Mekanism.worldTickHandler.getPendingRegenChunks(dimensionId) + " chunks queued"));
+				}
+				
+				sender.addChatMessage(new TextComponentString(EnumColor.GREY + " Regenerated " + Mekanism.worldTickHandler.getRegeneratedChunks() + " chunks, " + String.format("%.2f", Mekanism.worldTickHandler.getAverageRegenTime()) + " ms per chunk"));
+				sender.addChatMessage(new TextComponentString(EnumColor.GREY + "------------- " + EnumColor.DARK_BLUE + "[=======]" + EnumColor.GREY + " -------------"));
+			}
 			else if(params[0].equalsIgnoreCase("debug"))
 			{
 				MekanismAPI.debug = !MekanismAPI.debug;
@@ -113,6 +113,7 @@ import mekanism.common.tile.TileEntitySeismicVibrator;
 import mekanism.common.tile.TileEntitySolarNeutronActivator;
 import mekanism.common.tile.TileEntityTeleporter;
 import mekanism.common.tile.TileEntityThermalEvaporationController;
+import mekanism.common.util.CraftingGridCache;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -228,6 +229,7 @@ public class CommonProxy implements IGuiProvider
 		general.tinPerChunk = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "TinPerChunk", 14).getInt();
 		general.saltPerChunk = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "SaltPerChunk", 2).getInt();
 		general.userWorldGenVersion = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "WorldRegenVersion", 0).getInt();
+		general.worldRegenTickBudget = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "WorldRegenTickBudget", 16, "Milliseconds per world tick spent regenerating ores", 1, 1000).getInt();
 		general.FROM_IC2 = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "JoulesToEU", 10D).getDouble();
 		general.TO_IC2 = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "EUToJoules", .1D).getDouble();
 		general.FROM_RF = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "JoulesToRF", 2.5D).getDouble();
@@ -264,6 +266,8 @@ public class CommonProxy implements IGuiProvider
 		general.heatPerFuelTick = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "HeatPerFuelTick", 4D).getDouble();
 		general.allowTransmitterAlloyUpgrade = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "AllowTransmitterAlloyUpgrade", true).getBoolean();
 		general.allowChunkloading = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "AllowChunkloading", true).getBoolean();
+		general.transporterPathCacheSize = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "TransporterPathCacheSize", 512, null, 1, Integer.MAX_VALUE).getInt();
+		general.guiSyncInterval = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "GuiSyncInterval", 2, "Minimum ticks between GUI updates sent to players using a machine", 1, 200).getInt();
 		
 		general.blacklistIC2 = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "BlacklistIC2Power", false).getBoolean();
 		general.blacklistRF = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "BlacklistRFPower", false).getBoolean();
@@ -325,6 +329,7 @@ public class CommonProxy implements IGuiProvider
 		for(MachineType type : BlockStateMachine.MachineType.getValidMachines())
 		{
 			machines.setEntry(type.machineName, Mekanism.configuration.get("machines", type.machineName + "Enabled", true).getBoolean());
+			machines.setGuiSyncInterval(type.machineName, Mekanism.configuration.get("machines", type.machineName + "GuiSyncInterval", general.guiSyncInterval, null, 1, 200).getInt());
 		}
 		
 		usage.enrichmentChamberUsage = Mekanism.configuration.get("usage", "EnrichmentChamberUsage", 50D).getDouble();
@@ -584,6 +589,8 @@ public class CommonProxy implements IGuiProvider
 				CraftingManager.getInstance().getRecipeList().removeAll(type.getRecipes());
 			}
 		}
+
+		CraftingGridCache.invalidate();
 	}
 
 	public void onConfigSync(boolean fromPacket)
@@ -1,12 +1,13 @@
 package mekanism.common;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Map;
 import java.util.Random;
 
+import mekanism.api.MekanismConfig.general;
+import mekanism.api.util.LongHashSet;
 import mekanism.common.frequency.FrequencyManager;
-import mekanism.common.multiblock.MultiblockManager;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.ChunkProviderServer;
@@ -17,39 +18,102 @@ import net.minecraftforge.fml.relauncher.Side;
 
 public class CommonWorldTickHandler
 {
-	private static final long maximumDeltaTimeNanoSecs = 16000000; // 16 milliseconds
-	
-	private HashMap<Integer, Queue<ChunkPos>> chunkRegenMap;
-	
-	public void addRegenChunk(int dimensionId, ChunkPos chunkCoord) 
+	/**
+	 * Saved as a chunk's world gen version while it is still queued for regeneration, so it is queued again the next
+	 * time it is loaded instead of being recorded as done.
+	 */
+	public static final int PENDING_REGEN_VERSION = -1;
+
+	private Map<Integer, RegenQueue> chunkRegenMap = new HashMap<Integer, RegenQueue>();
+
+	private long regeneratedChunks;
+	private long regenNanos;
+
+	/**
+	 * Queues a chunk for ore regeneration. Chunks load on other threads, hence the synchronization.
+	 */
+	public synchronized void addRegenChunk(int dimensionId, ChunkPos chunkCoord)
 	{
-		if(chunkRegenMap == null) 
+		RegenQueue queue = chunkRegenMap.get(dimensionId);
+
+		if(queue == null)
 		{
-			chunkRegenMap = new HashMap<Integer, Queue<ChunkPos>>();
+			queue = new RegenQueue();
+			chunkRegenMap.put(dimensionId, queue);
 		}
 
-		if(!chunkRegenMap.containsKey(dimensionId))
+		queue.add(chunkCoord);
+	}
+
+	/**
+	 * Called when a chunk is saved, to record that its saved copy is still waiting for regeneration.
+	 * @return if the chunk is queued for regeneration
+	 */
+	public synchronized boolean onChunkSaved(int dimensionId, ChunkPos chunkCoord)
+	{
+		RegenQueue queue = chunkRegenMap.get(dimensionId);
+
+		return queue != null && queue.markSaved(chunkCoord);
+	}
+
+	private synchronized ChunkPos pollRegenChunk(int dimensionId)
+	{
+		RegenQueue queue = chunkRegenMap.get(dimensionId);
+
+		return queue != null ? queue.poll() : null;
+	}
+
+	/**
+	 * Puts back a chunk that isn't loaded yet, unless it was saved as pending since it was last queued, in which case
+	 * it is dropped and queued again when it loads.
+	 */
+	private synchronized void deferRegenChunk(int dimensionId, ChunkPos chunkCoord)
+	{
+		RegenQueue queue = chunkRegenMap.get(dimensionId);
+
+		if(queue != null)
 		{
-			LinkedList<ChunkPos> list = new LinkedList<ChunkPos>();
-			list.add(chunkCoord);
-			chunkRegenMap.put(dimensionId, list);
-		}
-		else {
-			if(!chunkRegenMap.get(dimensionId).contains(chunkCoord)) 
-			{
-				chunkRegenMap.get(dimensionId).add(chunkCoord);
-			}
+			queue.defer(chunkCoord);
 		}
 	}
-	
-	public void resetRegenChunks()
+
+	private synchronized void finishRegenChunk(int dimensionId, ChunkPos chunkCoord)
 	{
-		if(chunkRegenMap != null)
+		RegenQueue queue = chunkRegenMap.get(dimensionId);
+
+		if(queue != null)
 		{
-			chunkRegenMap.clear();
+			queue.finish(chunkCoord);
 		}
 	}
-	
+
+	public synchronized int getPendingRegenChunks(int dimensionId)
+	{
+		RegenQueue queue = chunkRegenMap.get(dimensionId);
+
+		return queue != null ? queue.size() : 0;
+	}
+
+	public synchronized long getRegeneratedChunks()
+	{
+		return regeneratedChunks;
+	}
+
+	/**
+	 * @return the average time regenerating a chunk took in milliseconds, or 0 if none have been regenerated
+	 */
+	public synchronized double getAverageRegenTime()
+	{
+		return regeneratedChunks > 0 ? regenNanos/1000000D/regeneratedChunks : 0;
+	}
+
+	public synchronized void resetRegenChunks()
+	{
+		chunkRegenMap.clear();
+		regeneratedChunks = 0;
+		regenNanos = 0;
+	}
+
 	@SubscribeEvent
 	public void onTick(WorldTickEvent event)
 	{
@@ -65,7 +129,7 @@ public class CommonWorldTickHandler
 			}
 		}
 	}
-	
+
 	public void tickStart(World world)
 	{
 		if(!world.isRemote)
@@ -81,45 +145,152 @@ public class CommonWorldTickHandler
 	{
 		if(!world.isRemote)
 		{
-			MultiblockManager.tick(world);
 			FrequencyManager.tick(world);
-			
-			if(chunkRegenMap == null) 
-			{ 
-				return; 
+
+			regenerateChunks(world);
+		}
+	}
+
+	/**
+	 * Regenerates queued chunks in the world until the configured time budget for this tick is used up, looking at
+	 * each queued chunk at most once. Chunks that aren't in the loaded chunk map are left for later, as they may still
+	 * be on their way in from the chunk IO thread.
+	 */
+	private void regenerateChunks(World world)
+	{
+		int dimensionId = world.provider.getDimension();
+
+		if(getPendingRegenChunks(dimensionId) == 0)
+		{
+			return;
+		}
+
+		ChunkProviderServer provider = (ChunkProviderServer)world.getChunkProvider();
+		long budget = general.worldRegenTickBudget*1000000L;
+		long startTime = System.nanoTime();
+		int toCheck = getPendingRegenChunks(dimensionId);
+		int count = 0;
+
+		//Credit to E. Beef
+		for(; toCheck > 0 && System.nanoTime() - startTime < budget; toCheck--)
+		{
+			ChunkPos nextChunk = pollRegenChunk(dimensionId);
+
+			if(nextChunk == null)
+			{
+				break;
+			}
+
+			if(provider.getLoadedChunk(nextChunk.chunkXPos, nextChunk.chunkZPos) == null)
+			{
+				deferRegenChunk(dimensionId, nextChunk);
+				continue;
+			}
+
+			Random fmlRandom = new Random(world.getSeed());
+			long xSeed = fmlRandom.nextLong() >> 2 + 1L;
+			long zSeed = fmlRandom.nextLong() >> 2 + 1L;
+			fmlRandom.setSeed((xSeed*nextChunk.chunkXPos + zSeed*nextChunk.chunkZPos) ^ world.getSeed());
+
+			Mekanism.genHandler.generate(fmlRandom, nextChunk.chunkXPos, nextChunk.chunkZPos, world, provider.chunkGenerator, provider);
+
+			//Make sure the chunk is saved again, now with the current world gen version
+			world.getChunkFromChunkCoords(nextChunk.chunkXPos, nextChunk.chunkZPos).setChunkModified();
+			finishRegenChunk(dimensionId, nextChunk);
+			Mekanism.logger.debug("[Mekanism] Regenerated ores at chunk " + nextChunk);
+
+			count++;
+		}
+
+		if(count > 0)
+		{
+			synchronized(this)
+			{
+				regeneratedChunks += count;
+				regenNanos += System.nanoTime() - startTime;
+			}
+
+			if(getPendingRegenChunks(dimensionId) == 0)
+			{
+				Mekanism.logger.info("[Mekanism] Finished regenerating ores in dimension " + dimensionId + ", " + getRegeneratedChunks() + " chunks regenerated so far.");
 			}
-			
-			int dimensionId = world.provider.getDimension();
+		}
+	}
+
+	/**
+	 * Chunks waiting for regeneration in one dimension, in the order they were queued. Also tracks which of them have
+	 * been saved as pending since they were last loaded, as only those are safe to drop while unloaded.
+	 */
+	private static class RegenQueue
+	{
+		private ArrayDeque<ChunkPos> queue = new ArrayDeque<ChunkPos>();
+		private LongHashSet queued = new LongHashSet();
+		private LongHashSet saved = new LongHashSet();
+
+		public void add(ChunkPos pos)
+		{
+			long key = getKey(pos);
+
+			//Loaded again, so a saved copy no longer covers it
+			saved.remove(key);
+
+			if(queued.add(key))
+			{
+				queue.add(pos);
+			}
+		}
+
+		public boolean markSaved(ChunkPos pos)
+		{
+			long key = getKey(pos);
 
-			//Credit to E. Beef
-			if(chunkRegenMap.containsKey(dimensionId)) 
+			if(queued.contains(key))
 			{
-				Queue<ChunkPos> chunksToGen = chunkRegenMap.get(dimensionId);
-				long startTime = System.nanoTime();
-				
-				while(System.nanoTime() - startTime < maximumDeltaTimeNanoSecs && !chunksToGen.isEmpty()) 
-				{
-					ChunkPos nextChunk = chunksToGen.poll();
-					
-					if(nextChunk == null) 
-					{ 
-						break; 
-					}
-
-			        Random fmlRandom = new Random(world.getSeed());
-			        long xSeed = fmlRandom.nextLong() >> 2 + 1L;
-			        long zSeed = fmlRandom.nextLong() >> 2 + 1L;
-			        fmlRandom.setSeed((xSeed*nextChunk.chunkXPos + zSeed*nextChunk.chunkZPos) ^ world.getSeed());
-
-					Mekanism.genHandler.generate(fmlRandom, nextChunk.chunkXPos, nextChunk.chunkZPos, world, ((ChunkProviderServer)world.getChunkProvider()).chunkGenerator, world.getChunkProvider());
-					Mekanism.logger.info("[Mekanism] Regenerating ores at chunk " + nextChunk);
-				}
-
-				if(chunksToGen.isEmpty()) 
-				{
-					chunkRegenMap.remove(dimensionId);
-				}
+				saved.add(key);
+				return true;
 			}
+
+			return false;
+		}
+
+		public ChunkPos poll()
+		{
+			ChunkPos pos = queue.poll();
+
+			if(pos != null)
+			{
+				queued.remove(getKey(pos));
+			}
+
+			return pos;
+		}
+
+		public void defer(ChunkPos pos)
+		{
+			long key = getKey(pos);
+
+			if(!saved.remove(key) && queued.add(key))
+			{
+				queue.add(pos);
+			}
+		}
+
+		public void finish(ChunkPos pos)
+		{
+			if(!queued.contains(getKey(pos)))
+			{
+				saved.remove(getKey(pos));
+			}
+		}
+
+		public int size()
+		{
+			return queue.size();
+		}
+
+		private static long getKey(ChunkPos pos)
+		{
+			return ((long)pos.chunkXPos << 32) | (pos.chunkZPos & 0xFFFFFFFFL);
 		}
 	}
 }
@@ -1,11 +1,9 @@
 package mekanism.common;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
@@ -32,6 +30,11 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 
 	public EnergyStack buffer = new EnergyStack(0);
 
+	private EnergyAcceptorWrapper[] emitWrappers = new EnergyAcceptorWrapper[0];
+	private int[] emitTargets = new int[0];
+	private double[] emitDemands = new double[0];
+	private double[] sortedDemands = new double[0];
+
 	public EnergyNetwork() {}
 
 	public EnergyNetwork(Collection<EnergyNetwork> networks)
@@ -116,18 +119,7 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 			return 0;
 		}
 
-		double sent = 0;
-		boolean tryAgain;
-		int i = 0;
-
-		do {
-			double prev = sent;
-			sent += doEmit(energyToSend-sent);
-
-			tryAgain = energyToSend-sent > 0 && sent-prev > 0 && i < 100;
-
-			i++;
-		} while(tryAgain);
+		double sent = doEmit(energyToSend);
 
 		joulesTransmitted = sent;
 		
@@ -147,51 +139,162 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 	}
 
 	/**
+	 * Splits the energy between all acceptors that need it. Each acceptor's demand is queried once, and acceptors
+	 * needing less than an even share are filled up while the rest is split evenly among the others. Anything an
+	 * acceptor turns down is split again between the acceptors that took their whole share.
 	 * @return sent
 	 */
 	public double doEmit(double energyToSend)
 	{
-		double sent = 0;
+		refreshAcceptorTargets();
 
-		List<Pair<Coord4D, EnergyAcceptorWrapper>> availableAcceptors = new ArrayList<>();
-		availableAcceptors.addAll(getAcceptors(null));
+		int count = 0;
 
-		Collections.shuffle(availableAcceptors);
+		for(int i = 0; i < acceptorTargets.size(); i++)
+		{
+			AcceptorTarget<EnergyAcceptorWrapper> target = acceptorTargets.get(i);
 
-		if(!availableAcceptors.isEmpty())
+			if(target.tile.isInvalid())
+			{
+				acceptorsDirty = true;
+				continue;
+			}
+
+			for(int j = 0; j < target.sides.length; j++)
+			{
+				EnergyAcceptorWrapper acceptor = target.getAcceptor(j);
+				EnumFacing side = target.sides[j];
+
+				if(acceptor != null && acceptor.canReceiveEnergy(side) && acceptor.needsEnergy(side))
+				{
+					double needed = acceptor.getNeeded(side);
+
+					if(needed > 0)
+					{
+						emitWrappers[count] = acceptor;
+						emitTargets[count] = i;
+						emitDemands[count] = needed;
+						count++;
+					}
+
+					break;
+				}
+			}
+		}
+
+		int found = count;
+		double sent = 0;
+
+		//Each pass that ends with energy turned down drops at least one acceptor, so this runs at most count times
+		while(count > 0)
 		{
-			int divider = availableAcceptors.size();
-			double remaining = energyToSend % divider;
-			double sending = (energyToSend-remaining)/divider;
+			System.arraycopy(emitDemands, 0, sortedDemands, 0, count);
+
+			double level = getFillLevel(sortedDemands, count, energyToSend-sent);
+			boolean turnedDown = false;
+			int remaining = 0;
 
-			for(Pair<Coord4D, EnergyAcceptorWrapper> pair : availableAcceptors)
+			for(int i = 0; i < count; i++)
 			{
-				EnergyAcceptorWrapper acceptor = pair.getRight();
-				double currentSending = sending+remaining;
-				EnumSet<EnumFacing> sides = acceptorDirections.get(pair.getLeft());
+				double toSend = Math.min(emitDemands[i], level);
 
-				if(sides == null || sides.isEmpty())
+				if(toSend <= 0)
 				{
 					continue;
 				}
 
-				for(EnumFacing side : sides)
-				{
-					double prev = sent;
+				double accepted = 0;
 
-					sent += acceptor.transferEnergyToAcceptor(side, currentSending);
+				for(EnumFacing side : acceptorTargets.get(emitTargets[i]).sides)
+				{
+					accepted = emitWrappers[i].transferEnergyToAcceptor(side, toSend);
 
-					if(sent > prev)
+					if(accepted > 0)
 					{
 						break;
 					}
 				}
+
+				sent += accepted;
+
+				if(accepted < toSend)
+				{
+					turnedDown = true;
+				}
+				else if(emitDemands[i] > accepted)
+				{
+					emitWrappers[remaining] = emitWrappers[i];
+					emitTargets[remaining] = emitTargets[i];
+					emitDemands[remaining] = emitDemands[i]-accepted;
+					remaining++;
+				}
 			}
+
+			if(!turnedDown || energyToSend-sent <= 0)
+			{
+				break;
+			}
+
+			count = remaining;
+		}
+
+		for(int i = 0; i < found; i++)
+		{
+			emitWrappers[i] = null;
 		}
 
 		return sent;
 	}
 
+	/**
+	 * Finds the per-acceptor cap that distributes the given amount as evenly as possible without giving any
+	 * acceptor more than it demands.
+	 * @param demands - scratch array holding each acceptor's demand, sorted in place
+	 * @param count - number of demands in the array
+	 * @param amount - amount to distribute
+	 * @return the cap to apply to each acceptor's demand
+	 */
+	private static double getFillLevel(double[] demands, int count, double amount)
+	{
+		Arrays.sort(demands, 0, count);
+
+		double remaining = amount;
+
+		for(int i = 0; i < count; i++)
+		{
+			double share = remaining/(count-i);
+
+			if(demands[i] >= share)
+			{
+				return share;
+			}
+
+			remaining -= demands[i];
+		}
+
+		return Double.MAX_VALUE;
+	}
+
+	@Override
+	protected void refreshAcceptorTargets()
+	{
+		super.refreshAcceptorTargets();
+
+		if(emitTargets.length < acceptorTargets.size())
+		{
+			emitWrappers = new EnergyAcceptorWrapper[acceptorTargets.size()];
+			emitTargets = new int[acceptorTargets.size()];
+			emitDemands = new double[acceptorTargets.size()];
+			sortedDemands = new double[acceptorTargets.size()];
+		}
+	}
+
+	@Override
+	protected EnergyAcceptorWrapper resolveAcceptor(TileEntity tile, EnumFacing side)
+	{
+		return EnergyAcceptorWrapper.get(tile, side);
+	}
+
 	@Override
 	public Set<Pair<Coord4D, EnergyAcceptorWrapper>> getAcceptors(Object data)
 	{
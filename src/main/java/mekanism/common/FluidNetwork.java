@@ -1,11 +1,8 @@
 package mekanism.common;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
@@ -42,6 +39,13 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 
 	public int prevTransferAmount = 0;
 
+	private IFluidHandler[] emitHandlers = new IFluidHandler[0];
+	private int[] emitDemands = new int[0];
+	private int[] emitShares = new int[0];
+
+	/** Stack handed to acceptors for simulated fills in tickEmit, resized in place. Never used for real fills. */
+	private FluidStack emitStack;
+
 	public FluidNetwork() {}
 
 	public FluidNetwork(Collection<FluidNetwork> networks)
@@ -137,47 +141,68 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 		return getCapacity()-(buffer != null ? buffer.amount : 0);
 	}
 
+	/**
+	 * Queries each acceptor once for how much of the fluid it can take, then splits the stack between them
+	 * in proportion to their demand.
+	 * @return amount sent
+	 */
 	public int tickEmit(FluidStack fluidToSend, boolean doTransfer)
 	{
-		List<Pair<Coord4D, IFluidHandler>> availableAcceptors = new ArrayList<>();
-		availableAcceptors.addAll(getAcceptors(fluidToSend));
+		refreshAcceptorTargets();
 
-		Collections.shuffle(availableAcceptors);
+		if(emitStack == null || !emitStack.isFluidEqual(fluidToSend))
+		{
+			emitStack = fluidToSend.copy();
+		}
 
-		int fluidSent = 0;
+		int count = 0;
+		long totalDemand = 0;
 
-		if(!availableAcceptors.isEmpty())
+		for(AcceptorTarget<IFluidHandler> target : acceptorTargets)
 		{
-			int divider = availableAcceptors.size();
-			int remaining = fluidToSend.amount % divider;
-			int sending = (fluidToSend.amount-remaining)/divider;
-
-			for(Pair<Coord4D, IFluidHandler> pair : availableAcceptors)
+			if(target.tile.isInvalid())
 			{
-				int currentSending = sending;
-				IFluidHandler acceptor = pair.getRight();
-				EnumSet<EnumFacing> sides = acceptorDirections.get(pair.getLeft());
+				acceptorsDirty = true;
+				continue;
+			}
 
-				if(remaining > 0)
-				{
-					currentSending++;
-					remaining--;
-				}
+			for(int i = 0; i < target.sides.length; i++)
+			{
+				IFluidHandler acceptor = target.getAcceptor(i);
 
-				for(EnumFacing side : sides)
+				if(acceptor != null && PipeUtils.canFill(acceptor, fluidToSend))
 				{
-					int prev = fluidSent;
+					emitStack.amount = fluidToSend.amount;
+					int demand = acceptor.fill(emitStack, false);
 
-					if(acceptor != null && fluidToSend != null)
+					if(demand > 0)
 					{
-						fluidSent += acceptor.fill(PipeUtils.copy(fluidToSend, currentSending), doTransfer);
+						emitHandlers[count] = acceptor;
+						emitDemands[count] = demand;
+						totalDemand += demand;
+						count++;
 					}
 
-					if(fluidSent > prev)
-					{
-						break;
-					}
+					break;
+				}
+			}
+		}
+
+		int fluidSent = 0;
+
+		if(count > 0)
+		{
+			splitByDemand(fluidToSend.amount, emitDemands, count, totalDemand, emitShares);
+
+			for(int i = 0; i < count; i++)
+			{
+				if(emitShares[i] > 0)
+				{
+					//A fresh stack, as handlers may keep the one they're given
+					fluidSent += doTransfer ? emitHandlers[i].fill(PipeUtils.copy(fluidToSend, emitShares[i]), true) : emitShares[i];
 				}
+
+				emitHandlers[i] = null;
 			}
 		}
 
@@ -190,6 +215,30 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 		return fluidSent;
 	}
 
+	@Override
+	protected void refreshAcceptorTargets()
+	{
+		super.refreshAcceptorTargets();
+
+		if(emitHandlers.length < acceptorTargets.size())
+		{
+			emitHandlers = new IFluidHandler[acceptorTargets.size()];
+			emitDemands = new int[acceptorTargets.size()];
+			emitShares = new int[acceptorTargets.size()];
+		}
+	}
+
+	@Override
+	protected IFluidHandler resolveAcceptor(TileEntity tile, EnumFacing side)
+	{
+		if(CapabilityUtils.hasCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side))
+		{
+			return CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
+		}
+
+		return null;
+	}
+
 	public int emit(FluidStack fluidToSend, boolean doTransfer)
 	{
 		if(fluidToSend == null || (buffer != null && buffer.getFluid() != fluidToSend.getFluid()))
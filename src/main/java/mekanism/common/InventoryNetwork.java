@@ -1,17 +1,30 @@
 package mekanism.common;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
+import mekanism.api.Range4D;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterNodeIndex;
+import mekanism.common.multipart.MultipartTransporter;
+import mekanism.common.network.PacketTransmitterUpdate.PacketType;
+import mekanism.common.network.PacketTransmitterUpdate.TransmitterUpdateMessage;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -22,6 +35,14 @@ import org.apache.commons.lang3.tuple.Pair;
 
 public class InventoryNetwork extends DynamicNetwork<IInventory, InventoryNetwork>
 {
+	public PathfinderCache pathCache = new PathfinderCache();
+
+	private TransporterNodeIndex nodeIndex;
+	private int nodeIndexVersion;
+
+	/** Transporters whose stacks changed this tick, sent to clients together when the network ticks. */
+	private Set<MultipartTransporter> stackChanges = new LinkedHashSet<MultipartTransporter>();
+
 	public InventoryNetwork() {}
 
 	public InventoryNetwork(Collection<InventoryNetwork> networks)
@@ -31,12 +52,40 @@ public class InventoryNetwork extends DynamicNetwork<IInventory, InventoryNetwor
 			if(net != null)
 			{
 				adoptTransmittersAndAcceptorsFrom(net);
+				stackChanges.addAll(net.stackChanges);
+				net.stackChanges.clear();
 				net.deregister();
 			}
 		}
 
 		register();
 	}
+
+	@Override
+	public void commit()
+	{
+		//A new transporter can open up a shorter route for paths that never passed near it
+		if(!transmittersToAdd.isEmpty())
+		{
+			pathCache.reset();
+		}
+
+		super.commit();
+	}
+
+	/**
+	 * @return the dense node index of this network's transporters, rebuilt only when its topology has changed
+	 */
+	public TransporterNodeIndex getNodeIndex()
+	{
+		if(nodeIndex == null || nodeIndexVersion != topologyVersion)
+		{
+			nodeIndex = new TransporterNodeIndex(transmitterCoords);
+			nodeIndexVersion = topologyVersion;
+		}
+
+		return nodeIndex;
+	}
 	
 	public List<AcceptorData> calculateAcceptors(ItemStack stack, EnumColor color)
 	{
@@ -105,7 +154,91 @@ public class InventoryNetwork extends DynamicNetwork<IInventory, InventoryNetwor
 
 		if(FMLCommonHandler.instance().getEffectiveSide().isServer())
 		{
-			//Future!
+			sendStackChanges();
+		}
+	}
+
+	@Override
+	public void deregister()
+	{
+		if(FMLCommonHandler.instance().getEffectiveSide().isServer())
+		{
+			sendStackChanges();
+		}
+
+		super.deregister();
+	}
+
+	public void markStacksChanged(MultipartTransporter transporter)
+	{
+		stackChanges.add(transporter);
+	}
+
+	/**
+	 * Sends the stack changes of every transporter that changed since the last call, as one packet per player
+	 * holding only the transporters that player has loaded.
+	 */
+	private void sendStackChanges()
+	{
+		if(stackChanges.isEmpty())
+		{
+			return;
+		}
+
+		Map<EntityPlayerMP, ByteBuf> packets = new LinkedHashMap<EntityPlayerMP, ByteBuf>();
+		Coord4D first = null;
+
+		for(MultipartTransporter transporter : stackChanges)
+		{
+			if(!transporter.isValid())
+			{
+				continue;
+			}
+
+			Coord4D coord = transporter.coord();
+			ArrayList<Object> data = new ArrayList<Object>();
+			transporter.writeStackChanges(data);
+
+			List<EntityPlayerMP> receivers = Mekanism.packetHandler.getReceivers(new Range4D(coord));
+
+			if(receivers.isEmpty())
+			{
+				continue;
+			}
+
+			//Encoded once here and copied into the packet of every player that can see this transporter
+			ByteBuf record = Unpooled.buffer();
+			coord.write(record);
+
+			int lengthIndex = record.writerIndex();
+			record.writeInt(0);
+			PacketHandler.encode(new Object[] {data}, record);
+			record.setInt(lengthIndex, record.writerIndex()-lengthIndex-4);
+
+			for(EntityPlayerMP player : receivers)
+			{
+				ByteBuf buffer = packets.get(player);
+
+				if(buffer == null)
+				{
+					buffer = Unpooled.buffer();
+					packets.put(player, buffer);
+				}
+
+				buffer.writeBytes(record, record.readerIndex(), record.readableBytes());
+			}
+
+			if(first == null)
+			{
+				first = coord;
+			}
+		}
+
+		stackChanges.clear();
+
+		for(Map.Entry<EntityPlayerMP, ByteBuf> entry : packets.entrySet())
+		{
+			Mekanism.packetHandler.sendTo(new TransmitterUpdateMessage(PacketType.STACKS, first, entry.getValue()), entry.getKey());
 		}
 	}
 
@@ -51,7 +51,6 @@ import mekanism.common.content.boiler.SynchronizedBoilerData;
 import mekanism.common.content.entangloporter.InventoryFrequency;
 import mekanism.common.content.matrix.SynchronizedMatrixData;
 import mekanism.common.content.tank.SynchronizedTankData;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.entity.EntityBabySkeleton;
 import mekanism.common.entity.EntityBalloon;
@@ -144,6 +143,7 @@ import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.common.registry.EntityRegistry;
 import net.minecraftforge.fml.common.registry.GameRegistry;
 import net.minecraftforge.oredict.OreDictionary;
+import net.minecraftforge.oredict.OreDictionary.OreRegisterEvent;
 import net.minecraftforge.oredict.RecipeSorter;
 import net.minecraftforge.oredict.RecipeSorter.Category;
 
@@ -1258,7 +1258,6 @@ public class Mekanism
 		MultiblockManager.reset();
 		FrequencyManager.reset();
 		TransporterManager.reset();
-		PathfinderCache.reset();
 		TransmitterNetworkRegistry.reset();
 	}
 	
@@ -1469,6 +1468,12 @@ public class Mekanism
 		} catch(Exception e) {}
 	}
 	
+	@SubscribeEvent
+	public void onOreRegister(OreRegisterEvent event)
+	{
+		OreDictCache.invalidate();
+	}
+	
 	@SubscribeEvent
 	public void onBlacklistUpdate(BoxBlacklistEvent event)
 	{
@@ -1525,8 +1530,9 @@ public class Mekanism
 		if(!event.getWorld().isRemote)
 		{
 			NBTTagCompound nbtTags = event.getData();
+			boolean pending = worldTickHandler.onChunkSaved(event.getWorld().provider.getDimension(), event.getChunk().getChunkCoordIntPair());
 
-			nbtTags.setInteger("MekanismWorldGen", baseWorldGenVersion);
+			nbtTags.setInteger("MekanismWorldGen", pending ? CommonWorldTickHandler.PENDING_REGEN_VERSION : baseWorldGenVersion);
 			nbtTags.setInteger("MekanismUserWorldGen", general.userWorldGenVersion);
 		}
 	}
@@ -1,8 +1,14 @@
 package mekanism.common;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import mekanism.api.util.ItemInfo;
 import mekanism.common.util.ItemRegistryUtils;
@@ -10,13 +16,62 @@ import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.oredict.OreDictionary;
 
+/**
+ * Lookups into the ore dictionary for filters. Wildcard patterns are compiled once into the set of ore ids they
+ * match, so checking a stack against an ore dictionary filter only tests the stack's ore ids against that set.
+ * Everything is thrown away whenever something is registered with the ore dictionary.
+ */
 public final class OreDictCache
 {
+	/** The per-item caches are cleared when they grow past this, as damageable items add an entry per damage value. */
+	private static final int MAX_CACHED_ITEMS = 4096;
+
 	public static HashMap<ItemInfo, List<String>> cachedKeys = new HashMap<ItemInfo, List<String>>();
 	public static HashMap<String, List<ItemStack>> oreDictStacks = new HashMap<String, List<ItemStack>>();
 	public static HashMap<String, List<ItemStack>> modIDStacks = new HashMap<String, List<ItemStack>>();
 
-	public static List<String> getOreDictName(ItemStack check)
+	private static HashMap<ItemInfo, int[]> cachedIDs = new HashMap<ItemInfo, int[]>();
+	private static HashMap<String, BitSet> compiledPatterns = new HashMap<String, BitSet>();
+
+	/** Ore dictionary block stacks grouped by the name of the mod that added them, or null if not built yet. */
+	private static Map<String, List<ItemStack>> modIndex;
+
+	public static synchronized void invalidate()
+	{
+		cachedKeys.clear();
+		oreDictStacks.clear();
+		modIDStacks.clear();
+		cachedIDs.clear();
+		compiledPatterns.clear();
+		modIndex = null;
+	}
+
+	/**
+	 * Checks a name against a filter pattern, which may start and/or end with a '*' wildcard.
+	 */
+	public static boolean matches(String pattern, String name)
+	{
+		if(pattern.equals(name) || pattern.equals("*"))
+		{
+			return true;
+		}
+		else if(pattern.endsWith("*") && !pattern.startsWith("*"))
+		{
+			return name.startsWith(pattern.substring(0, pattern.length()-1));
+		}
+		else if(pattern.startsWith("*") && !pattern.endsWith("*"))
+		{
+			return name.endsWith(pattern.substring(1));
+		}
+		else if(pattern.startsWith("*") && pattern.endsWith("*"))
+		{
+			return name.contains(pattern.substring(1, pattern.length()-1));
+		}
+
+		return false;
+	}
+
+	public static synchronized List<String> getOreDictName(ItemStack check)
 	{
 		if(check == null || check.getItem() == null)
 		{
@@ -31,132 +86,183 @@ public final class OreDictCache
 			return cached;
 		}
 
-		int[] idsFound = OreDictionary.getOreIDs(check);
-
 		List<String> ret = new ArrayList<String>();
 
-		for(Integer id : idsFound)
+		for(int id : getOreIDs(check))
 		{
 			ret.add(OreDictionary.getOreName(id));
 		}
 
+		if(cachedKeys.size() >= MAX_CACHED_ITEMS)
+		{
+			cachedKeys.clear();
+		}
+
 		cachedKeys.put(info, ret);
 
 		return ret;
 	}
-	
-	public static List<ItemStack> getOreDictStacks(String oreName, boolean forceBlock)
+
+	private static int[] getOreIDs(ItemStack check)
 	{
-		if(oreDictStacks.get(oreName) != null)
+		ItemInfo info = ItemInfo.get(check);
+		int[] cached = cachedIDs.get(info);
+
+		if(cached == null)
 		{
-			return oreDictStacks.get(oreName);
+			cached = OreDictionary.getOreIDs(check);
+
+			if(cachedIDs.size() >= MAX_CACHED_ITEMS)
+			{
+				cachedIDs.clear();
+			}
+
+			cachedIDs.put(info, cached);
 		}
 
-		List<String> keys = new ArrayList<String>();
+		return cached;
+	}
+
+	/**
+	 * Gets the ids of all ore dictionary names matching the given pattern.
+	 */
+	private static BitSet getMatchingIDs(String pattern)
+	{
+		BitSet ret = compiledPatterns.get(pattern);
 
-		for(String s : OreDictionary.getOreNames())
+		if(ret == null)
 		{
-			if(s == null)
-			{
-				continue;
-			}
-			
-			if(oreName.equals(s) || oreName.equals("*"))
-			{
-				keys.add(s);
-			}
-			else if(oreName.endsWith("*") && !oreName.startsWith("*"))
-			{
-				if(s.startsWith(oreName.substring(0, oreName.length()-1)))
-				{
-					keys.add(s);
-				}
-			}
-			else if(oreName.startsWith("*") && !oreName.endsWith("*"))
+			ret = new BitSet();
+
+			for(String name : OreDictionary.getOreNames())
 			{
-				if(s.endsWith(oreName.substring(1)))
+				if(name != null && matches(pattern, name))
 				{
-					keys.add(s);
+					ret.set(OreDictionary.getOreID(name));
 				}
 			}
-			else if(oreName.startsWith("*") && oreName.endsWith("*"))
+
+			compiledPatterns.put(pattern, ret);
+		}
+
+		return ret;
+	}
+
+	/**
+	 * Checks whether any of the stack's ore dictionary names match the given pattern.
+	 */
+	public static synchronized boolean hasOreDictName(ItemStack check, String pattern)
+	{
+		if(check == null || check.getItem() == null)
+		{
+			return false;
+		}
+
+		int[] ids = getOreIDs(check);
+
+		if(ids.length == 0)
+		{
+			return false;
+		}
+
+		BitSet matching = getMatchingIDs(pattern);
+
+		for(int id : ids)
+		{
+			if(matching.get(id))
 			{
-				if(s.contains(oreName.substring(1, oreName.length()-1)))
-				{
-					keys.add(s);
-				}
+				return true;
 			}
 		}
-		
+
+		return false;
+	}
+
+	public static synchronized List<ItemStack> getOreDictStacks(String oreName, boolean forceBlock)
+	{
+		if(oreDictStacks.get(oreName) != null)
+		{
+			return oreDictStacks.get(oreName);
+		}
+
+		BitSet ids = getMatchingIDs(oreName);
+		Set<ItemStack> found = Collections.newSetFromMap(new IdentityHashMap<ItemStack, Boolean>());
 		List<ItemStack> stacks = new ArrayList<ItemStack>();
 
-		for(String key : keys)
+		for(int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id+1))
 		{
-			for(ItemStack stack : OreDictionary.getOres(key))
+			for(ItemStack stack : OreDictionary.getOres(OreDictionary.getOreName(id)))
 			{
-				ItemStack toAdd = stack.copy();
-
-				if(!stacks.contains(stack) && (!forceBlock || toAdd.getItem() instanceof ItemBlock))
+				if((!forceBlock || stack.getItem() instanceof ItemBlock) && found.add(stack))
 				{
 					stacks.add(stack.copy());
 				}
 			}
 		}
-		
+
 		oreDictStacks.put(oreName, stacks);
-		
+
 		return stacks;
 	}
-	
-	public static List<ItemStack> getModIDStacks(String modName, boolean forceBlock)
+
+	public static synchronized List<ItemStack> getModIDStacks(String modName, boolean forceBlock)
 	{
 		if(modIDStacks.get(modName) != null)
 		{
 			return modIDStacks.get(modName);
 		}
-		
+
 		List<ItemStack> stacks = new ArrayList<ItemStack>();
 
-		for(String key : OreDictionary.getOreNames())
+		for(Map.Entry<String, List<ItemStack>> entry : getModIndex().entrySet())
+		{
+			if(matches(modName, entry.getKey()))
+			{
+				for(ItemStack stack : entry.getValue())
+				{
+					stacks.add(stack.copy());
+				}
+			}
+		}
+
+		modIDStacks.put(modName, stacks);
+
+		return stacks;
+	}
+
+	private static Map<String, List<ItemStack>> getModIndex()
+	{
+		if(modIndex == null)
 		{
-			for(ItemStack stack : OreDictionary.getOres(key))
+			modIndex = new LinkedHashMap<String, List<ItemStack>>();
+			Set<ItemStack> found = Collections.newSetFromMap(new IdentityHashMap<ItemStack, Boolean>());
+
+			for(String key : OreDictionary.getOreNames())
 			{
-				ItemStack toAdd = stack.copy();
-				String s = ItemRegistryUtils.getMod(toAdd);
+				if(key == null)
+				{
+					continue;
+				}
 
-				if(!stacks.contains(stack) && toAdd.getItem() instanceof ItemBlock)
+				for(ItemStack stack : OreDictionary.getOres(key))
 				{
-					if(modName.equals(s) || modName.equals("*"))
-					{
-						stacks.add(stack.copy());
-					}
-					else if(modName.endsWith("*") && !modName.startsWith("*"))
+					if(stack.getItem() instanceof ItemBlock && found.add(stack))
 					{
-						if(s.startsWith(modName.substring(0, modName.length()-1)))
-						{
-							stacks.add(stack.copy());
-						}
-					}
-					else if(modName.startsWith("*") && !modName.endsWith("*"))
-					{
-						if(s.endsWith(modName.substring(1)))
-						{
-							stacks.add(stack.copy());
-						}
-					}
-					else if(modName.startsWith("*") && modName.endsWith("*"))
-					{
-						if(s.contains(modName.substring(1, modName.length()-1)))
+						String mod = ItemRegistryUtils.getMod(stack);
+						List<ItemStack> list = modIndex.get(mod);
+
+						if(list == null)
 						{
-							stacks.add(stack.copy());
+							list = new ArrayList<ItemStack>();
+							modIndex.put(mod, list);
 						}
+
+						list.add(stack);
 					}
 				}
 			}
 		}
-		
-		modIDStacks.put(modName, stacks);
-		
-		return stacks;
+
+		return modIndex;
 	}
 }
@@ -70,11 +70,13 @@ import mekanism.common.network.PacketTransmitterUpdate;
 import mekanism.common.network.PacketTransmitterUpdate.TransmitterUpdateMessage;
 import mekanism.common.network.PacketWalkieTalkieState;
 import mekanism.common.network.PacketWalkieTalkieState.WalkieTalkieStateMessage;
+import mekanism.common.network.TileNetworkSync;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.Vec3d;
@@ -94,6 +96,8 @@ import net.minecraftforge.fml.relauncher.Side;
 public class PacketHandler
 {
 	public SimpleNetworkWrapper netHandler = NetworkRegistry.INSTANCE.newSimpleChannel("MEK");
+
+	private PlayerChunkIndex playerIndex = new PlayerChunkIndex();
 	
 	public void initialize()
 	{
@@ -346,19 +350,52 @@ public class PacketHandler
 		}
 	}
 	
+	/**
+	 * Send this message to all players that have the defined range loaded.
+	 * @param message - the message to send
+	 * @param range - the range the message concerns
+	 */
 	public void sendToReceivers(IMessage message, Range4D range)
 	{
 		MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
 
 		if(server != null)
 		{
-			for(EntityPlayerMP player : (List<EntityPlayerMP>)server.getPlayerList().getPlayerList())
+			List<EntityPlayerMP> receivers = getReceivers(range);
+			
+			if(message instanceof TileEntityMessage && ((TileEntityMessage)message).syncType == TileEntityMessage.PLAIN)
 			{
-				if(player.dimension == range.dimensionId && Range4D.getChunkRange(player).intersects(range))
+				TileEntityMessage tileMessage = (TileEntityMessage)message;
+				TileEntity tile = tileMessage.coord4D.getTileEntity(server.worldServerForDimension(tileMessage.coord4D.dimensionId));
+				
+				if(tile != null)
 				{
-					sendTo(message, player);
+					TileNetworkSync.sendToReceivers(tile, tileMessage, receivers);
+					return;
 				}
 			}
+			
+			for(EntityPlayerMP player : receivers)
+			{
+				sendTo(message, player);
+			}
+		}
+	}
+
+	/**
+	 * Gets all players that have the defined range loaded.
+	 * @param range - the range to check
+	 * @return players that would receive a message sent with sendToReceivers()
+	 */
+	public List<EntityPlayerMP> getReceivers(Range4D range)
+	{
+		MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+
+		if(server == null)
+		{
+			return new ArrayList<EntityPlayerMP>();
 		}
+
+		return playerIndex.getReceivers(server, range);
 	}
 }
@@ -0,0 +1,128 @@
+package mekanism.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mekanism.api.Range4D;
+import mekanism.api.util.LongObjectMap;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+
+/**
+ * Online players grouped by dimension and by regions of 8x8 chunks, so the players that can see a Range4D are found
+ * by looking at a few nearby regions instead of the whole player list. Rebuilt at most once per server tick.
+ */
+public class PlayerChunkIndex
+{
+	private static final int REGION_SHIFT = 3;
+
+	private Map<Integer, LongObjectMap<List<IndexedPlayer>>> dimensions = new HashMap<Integer, LongObjectMap<List<IndexedPlayer>>>();
+
+	private int lastTick = -1;
+	private int lastPlayerCount = -1;
+	private int viewDistance;
+
+	/**
+	 * Gets the players whose view range intersects the given range, the same check as Range4D.getChunkRange(player).intersects(range).
+	 */
+	public List<EntityPlayerMP> getReceivers(MinecraftServer server, Range4D range)
+	{
+		List<EntityPlayerMP> receivers = new ArrayList<EntityPlayerMP>();
+
+		refresh(server);
+
+		LongObjectMap<List<IndexedPlayer>> regions = dimensions.get(range.dimensionId);
+
+		if(regions == null)
+		{
+			return receivers;
+		}
+
+		//Include one extra chunk on each side to cover the slack in Range4D.intersects()
+		int minRegionX = ((range.xMin >> 4) - viewDistance - 1) >> REGION_SHIFT;
+		int maxRegionX = ((range.xMax >> 4) + viewDistance + 1) >> REGION_SHIFT;
+		int minRegionZ = ((range.zMin >> 4) - viewDistance - 1) >> REGION_SHIFT;
+		int maxRegionZ = ((range.zMax >> 4) + viewDistance + 1) >> REGION_SHIFT;
+
+		for(int regionX = minRegionX; regionX <= maxRegionX; regionX++)
+		{
+			for(int regionZ = minRegionZ; regionZ <= maxRegionZ; regionZ++)
+			{
+				List<IndexedPlayer> players = regions.get(getKey(regionX, regionZ));
+
+				if(players == null)
+				{
+					continue;
+				}
+
+				for(IndexedPlayer indexed : players)
+				{
+					if(indexed.player.dimension == range.dimensionId && indexed.chunkRange.intersects(range))
+					{
+						receivers.add(indexed.player);
+					}
+				}
+			}
+		}
+
+		return receivers;
+	}
+
+	private void refresh(MinecraftServer server)
+	{
+		List<EntityPlayerMP> players = server.getPlayerList().getPlayerList();
+
+		if(server.getTickCounter() == lastTick && players.size() == lastPlayerCount)
+		{
+			return;
+		}
+
+		lastTick = server.getTickCounter();
+		lastPlayerCount = players.size();
+		viewDistance = server.getPlayerList().getViewDistance();
+
+		dimensions.clear();
+
+		for(EntityPlayerMP player : players)
+		{
+			LongObjectMap<List<IndexedPlayer>> regions = dimensions.get(player.dimension);
+
+			if(regions == null)
+			{
+				regions = new LongObjectMap<List<IndexedPlayer>>();
+				dimensions.put(player.dimension, regions);
+			}
+
+			Range4D chunkRange = Range4D.getChunkRange(player);
+			long key = getKey((chunkRange.xMin >> 4) + viewDistance >> REGION_SHIFT, (chunkRange.zMin >> 4) + viewDistance >> REGION_SHIFT);
+			List<IndexedPlayer> list = regions.get(key);
+
+			if(list == null)
+			{
+				list = new ArrayList<IndexedPlayer>();
+				regions.put(key, list);
+			}
+
+			list.add(new IndexedPlayer(player, chunkRange));
+		}
+	}
+
+	private static long getKey(int regionX, int regionZ)
+	{
+		return ((long)regionX << 32) | (regionZ & 0xFFFFFFFFL);
+	}
+
+	private static class IndexedPlayer
+	{
+		public final EntityPlayerMP player;
+		public final Range4D chunkRange;
+
+		public IndexedPlayer(EntityPlayerMP entityPlayer, Range4D range)
+		{
+			player = entityPlayer;
+			chunkRange = range;
+		}
+	}
+}
@@ -59,6 +59,13 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 
 	public abstract boolean needsEnergy(EnumFacing side);
 
+	/**
+	 * Gets how much energy this acceptor could take from a certain side right now, without transferring anything.
+	 * @param side - side to check
+	 * @return energy in Joules this acceptor can accept
+	 */
+	public abstract double getNeeded(EnumFacing side);
+
 	public static class MekanismAcceptor extends EnergyAcceptorWrapper
 	{
 		private IStrictEnergyAcceptor acceptor;
@@ -103,6 +110,12 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 		{
 			return acceptor.getMaxEnergy() - acceptor.getEnergy() > 0;
 		}
+
+		@Override
+		public double getNeeded(EnumFacing side)
+		{
+			return Math.max(0, acceptor.getMaxEnergy() - acceptor.getEnergy());
+		}
 	}
 
 	public static class RFAcceptor extends EnergyAcceptorWrapper
@@ -152,6 +165,12 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 			return acceptor.receiveEnergy(side, 1, true) > 0;
 		}
 
+		@Override
+		public double getNeeded(EnumFacing side)
+		{
+			return fromRF(acceptor.receiveEnergy(side, Integer.MAX_VALUE, true));
+		}
+
 		public int toRF(double joules)
 		{
 			return (int)Math.round(joules*general.TO_RF);
@@ -208,6 +227,12 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 			return acceptor.getDemandedEnergy() > 0;
 		}
 
+		@Override
+		public double getNeeded(EnumFacing side)
+		{
+			return fromEU(Math.min(acceptor.getDemandedEnergy(), Integer.MAX_VALUE));
+		}
+
 		public double toEU(double joules)
 		{
 			return joules*general.TO_IC2;
@@ -260,6 +285,12 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 		{
 			return false;
 		}
+
+		@Override
+		public double getNeeded(EnumFacing side)
+		{
+			return fromTesla(acceptor.givePower(Long.MAX_VALUE, true));
+		}
 		
 		public long toTesla(double joules)
 		{
@@ -0,0 +1,15 @@
+package mekanism.common.base;
+
+/**
+ * Implement this in a TileEntityBasicBlock that can stop updating while it has nothing to do. A sleeping tile skips
+ * its components and onUpdate() until wake() is called, which happens when its inventory, energy, redstone state or
+ * configuration changes.
+ */
+public interface ISleepable
+{
+	/**
+	 * Checked on the server after each update.
+	 * @return whether this tile can't make progress until something wakes it
+	 */
+	public boolean canSleep();
+}
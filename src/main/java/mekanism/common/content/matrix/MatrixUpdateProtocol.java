@@ -84,8 +84,15 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
 			
 			if(tile instanceof TileEntityInductionCell)
 			{
-				structure.cells.add(coord);
-				structure.storageCap += ((TileEntityInductionCell)tile).tier.maxEnergy;
+				TileEntityInductionCell cell = (TileEntityInductionCell)tile;
+
+				//Bring the cell up to date with the matrix it belonged to before counting its energy
+				if(cell.matrix != null)
+				{
+					cell.matrix.pushEnergy(pointer.getWorld());
+				}
+
+				structure.addCell(coord, cell);
 			}
 			else if(tile instanceof TileEntityInductionProvider)
 			{
@@ -96,4 +103,38 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
 		
 		return true;
 	}
+
+	@Override
+	protected void onFormed()
+	{
+		super.onFormed();
+
+		for(Coord4D coord : structureFound.cells)
+		{
+			TileEntity tile = coord.getTileEntity(pointer.getWorld());
+
+			if(tile instanceof TileEntityInductionCell)
+			{
+				((TileEntityInductionCell)tile).matrix = structureFound;
+			}
+		}
+	}
+
+	@Override
+	public void onStructureDestroyed(SynchronizedMatrixData structure)
+	{
+		structure.pushEnergy(pointer.getWorld());
+
+		for(Coord4D coord : structure.cells)
+		{
+			TileEntity tile = coord.getTileEntity(pointer.getWorld());
+
+			if(tile instanceof TileEntityInductionCell && ((TileEntityInductionCell)tile).matrix == structure)
+			{
+				((TileEntityInductionCell)tile).matrix = null;
+			}
+		}
+
+		super.onStructureDestroyed(structure);
+	}
 }
@@ -1,6 +1,8 @@
 package mekanism.common.content.matrix;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
@@ -8,65 +10,141 @@ import mekanism.common.multiblock.SynchronizedData;
 import mekanism.common.tile.TileEntityInductionCell;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 
 public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixData>
 {
 	public ItemStack[] inventory = new ItemStack[2];
-	
+
 	public Set<Coord4D> cells = new HashSet<Coord4D>();
-	
+
 	public Set<Coord4D> providers = new HashSet<Coord4D>();
-	
+
 	public double remainingInput;
 	public double lastInput;
-	
+
 	public double remainingOutput;
 	public double lastOutput;
-	
+
 	public double clientEnergy;
 	public double storageCap;
 	public double transferCap;
-	
+
+	/**
+	 * Energy stored across the cells linked to this matrix. The cells themselves are only brought up to date by
+	 * pushEnergy(), and a cell's share is taken out of this total when it is unloaded or removed.
+	 */
+	private double energy;
+	private boolean cellsOutdated;
+
+	/** One cell position per chunk containing cells, used to mark those chunks for saving. */
+	private List<BlockPos> cellChunks = new ArrayList<BlockPos>();
+	private Set<ChunkPos> cellChunkSet = new HashSet<ChunkPos>();
+
 	@Override
 	public ItemStack[] getInventory()
 	{
 		return inventory;
 	}
-	
-	public double getEnergy(World world)
+
+	/**
+	 * Adds a cell to this matrix while it is being formed, taking over the energy the cell holds.
+	 */
+	public void addCell(Coord4D coord, TileEntityInductionCell cell)
 	{
-		double ret = 0;
-		
-		for(Coord4D coord : cells)
+		cells.add(coord);
+		storageCap += cell.getMaxEnergy();
+		energy += cell.electricityStored;
+
+		if(cellChunkSet.add(new ChunkPos(coord.xCoord >> 4, coord.zCoord >> 4)))
+		{
+			cellChunks.add(coord.getPos());
+		}
+	}
+
+	/**
+	 * Links a cell of this matrix that was loaded again while the matrix stayed formed, taking its energy back in.
+	 */
+	public void linkCell(TileEntityInductionCell cell, World world)
+	{
+		cell.matrix = this;
+		storageCap += cell.getMaxEnergy();
+		setEnergy(world, energy + cell.electricityStored);
+	}
+
+	/**
+	 * Gives a cell that is being unloaded or removed its share of the energy, and takes that share and the cell's
+	 * capacity out of this matrix.
+	 */
+	public void unlinkCell(Coord4D coord, TileEntityInductionCell cell, World world)
+	{
+		//The cell may already be gone from the world, so it is written directly
+		if(cellsOutdated)
+		{
+			distributeEnergy(world, coord, cell);
+		}
+
+		energy = Math.max(0, energy - cell.electricityStored);
+		storageCap -= cell.getMaxEnergy();
+		cell.matrix = null;
+	}
+
+	public double getEnergy()
+	{
+		return energy;
+	}
+
+	public void setEnergy(World world, double newEnergy)
+	{
+		energy = newEnergy;
+
+		if(!cellsOutdated)
 		{
-			TileEntity tile = coord.getTileEntity(world);
-			
-			if(tile instanceof TileEntityInductionCell)
+			cellsOutdated = true;
+
+			//The cells will be brought up to date when they're saved, so make sure they are
+			for(BlockPos pos : cellChunks)
 			{
-				ret += ((TileEntityInductionCell)tile).getEnergy();
+				world.markChunkDirty(pos, null);
 			}
 		}
-		
-		return ret;
 	}
-	
-	public void setEnergy(World world, double energy)
+
+	/**
+	 * Distributes the stored energy over the linked cells, filling them in order.
+	 */
+	public void pushEnergy(World world)
+	{
+		if(cellsOutdated)
+		{
+			distributeEnergy(world, null, null);
+		}
+	}
+
+	/**
+	 * @param extraCoord - position of a linked cell that may no longer be in the world, or null
+	 * @param extra - the cell at extraCoord
+	 */
+	private void distributeEnergy(World world, Coord4D extraCoord, TileEntityInductionCell extra)
 	{
+		double remaining = energy;
+
 		for(Coord4D coord : cells)
 		{
-			TileEntity tile = coord.getTileEntity(world);
-			
-			if(tile instanceof TileEntityInductionCell)
+			TileEntity tile = coord.equals(extraCoord) ? extra : coord.getTileEntity(world);
+
+			if(tile instanceof TileEntityInductionCell && ((TileEntityInductionCell)tile).matrix == this)
 			{
 				TileEntityInductionCell cell = (TileEntityInductionCell)tile;
-				
-				cell.setEnergy(0);
-				
-				double toAdd = Math.min(cell.getMaxEnergy(), energy);
-				cell.setEnergy(toAdd);
-				energy -= toAdd;
+				double toAdd = Math.min(cell.getMaxEnergy(), remaining);
+
+				cell.electricityStored = toAdd;
+				remaining -= toAdd;
 			}
 		}
+
+		cellsOutdated = false;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,290 @@
+package mekanism.common.content.miner;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import mekanism.common.HashList;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * The Digital Miner's remaining targets, grouped by chunk and kept in ascending index order within each chunk.
+ * Targets are only ever taken from the front of a chunk's group, so each group is a slice of one int array with a
+ * head pointer, and the next target and the remaining count are available in constant time.
+ */
+public class MinerQueue
+{
+	private int groupCount = 0;
+	private int[] groupChunkX = new int[4];
+	private int[] groupChunkZ = new int[4];
+	private int[] groupHead = new int[4];
+	private int[] groupEnd = new int[4];
+
+	private int targetCount = 0;
+	private int[] targets = new int[16];
+	private MinerFilter[] targetFilters = new MinerFilter[16];
+
+	private int firstGroup = 0;
+	private int size = 0;
+
+	/**
+	 * Starts a new chunk group; targets added afterwards belong to it and must be added in ascending order.
+	 */
+	public void beginChunk(int chunkX, int chunkZ)
+	{
+		if(groupCount == groupHead.length)
+		{
+			int newLength = groupCount*2;
+
+			groupChunkX = Arrays.copyOf(groupChunkX, newLength);
+			groupChunkZ = Arrays.copyOf(groupChunkZ, newLength);
+			groupHead = Arrays.copyOf(groupHead, newLength);
+			groupEnd = Arrays.copyOf(groupEnd, newLength);
+		}
+
+		groupChunkX[groupCount] = chunkX;
+		groupChunkZ[groupCount] = chunkZ;
+		groupHead[groupCount] = targetCount;
+		groupEnd[groupCount] = targetCount;
+		groupCount++;
+	}
+
+	public void add(int index, MinerFilter filter)
+	{
+		if(targetCount == targets.length)
+		{
+			targets = Arrays.copyOf(targets, targetCount*2);
+			targetFilters = Arrays.copyOf(targetFilters, targetCount*2);
+		}
+
+		targets[targetCount] = index;
+		targetFilters[targetCount] = filter;
+		targetCount++;
+
+		groupEnd[groupCount-1] = targetCount;
+		size++;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public int getGroupCount()
+	{
+		return groupCount;
+	}
+
+	/**
+	 * @return the group to start looking for targets from; no group before it has any left
+	 */
+	public int getFirstGroup()
+	{
+		return firstGroup;
+	}
+
+	public boolean hasNext(int group)
+	{
+		return groupHead[group] < groupEnd[group];
+	}
+
+	public int peek(int group)
+	{
+		return targets[groupHead[group]];
+	}
+
+	/**
+	 * @return the filter that matched the next target of the group when it was found, or null
+	 */
+	public MinerFilter peekFilter(int group)
+	{
+		return targetFilters[groupHead[group]];
+	}
+
+	/**
+	 * Removes the next target of the given group.
+	 */
+	public void poll(int group)
+	{
+		targetFilters[groupHead[group]] = null;
+		groupHead[group]++;
+		size--;
+
+		while(firstGroup < groupCount && !hasNext(firstGroup))
+		{
+			firstGroup++;
+		}
+	}
+
+	/**
+	 * Writes the remaining targets as a varint stream: each chunk's targets are stored as runs of consecutive
+	 * indices, and their filters as runs of equal positions in the miner's filter list.
+	 */
+	public void write(NBTTagCompound nbtTags, HashList<MinerFilter> filters)
+	{
+		Map<MinerFilter, Integer> filterIds = new IdentityHashMap<MinerFilter, Integer>();
+
+		for(int i = 0; i < filters.size(); i++)
+		{
+			filterIds.put(filters.get(i), i);
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int groups = 0;
+
+		for(int group = firstGroup; group < groupCount; group++)
+		{
+			if(hasNext(group))
+			{
+				groups++;
+			}
+		}
+
+		writeVarInt(out, groups);
+
+		for(int group = firstGroup; group < groupCount; group++)
+		{
+			int start = groupHead[group];
+			int end = groupEnd[group];
+
+			if(start == end)
+			{
+				continue;
+			}
+
+			writeVarInt(out, zigZag(groupChunkX[group]));
+			writeVarInt(out, zigZag(groupChunkZ[group]));
+			writeVarInt(out, end-start);
+
+			int previous = -1;
+
+			for(int i = start; i < end;)
+			{
+				int runEnd = i+1;
+
+				while(runEnd < end && targets[runEnd] == targets[runEnd-1]+1)
+				{
+					runEnd++;
+				}
+
+				writeVarInt(out, targets[i]-previous-1);
+				writeVarInt(out, runEnd-i);
+
+				previous = targets[runEnd-1];
+				i = runEnd;
+			}
+
+			for(int i = start; i < end;)
+			{
+				int runEnd = i+1;
+
+				while(runEnd < end && targetFilters[runEnd] == targetFilters[i])
+				{
+					runEnd++;
+				}
+
+				Integer id = targetFilters[i] != null ? filterIds.get(targetFilters[i]) : null;
+
+				writeVarInt(out, runEnd-i);
+				writeVarInt(out, id != null ? id+1 : 0);
+
+				i = runEnd;
+			}
+		}
+
+		nbtTags.setByteArray("queue", out.toByteArray());
+	}
+
+	public static MinerQueue read(NBTTagCompound nbtTags, HashList<MinerFilter> filters)
+	{
+		MinerQueue queue = new MinerQueue();
+		byte[] data = nbtTags.getByteArray("queue");
+		int[] pos = new int[1];
+
+		if(data.length == 0)
+		{
+			return queue;
+		}
+
+		int groups = readVarInt(data, pos);
+
+		for(int group = 0; group < groups; group++)
+		{
+			queue.beginChunk(unZigZag(readVarInt(data, pos)), unZigZag(readVarInt(data, pos)));
+
+			int count = readVarInt(data, pos);
+			int start = queue.targetCount;
+			int previous = -1;
+
+			for(int read = 0; read < count;)
+			{
+				int index = previous+1+readVarInt(data, pos);
+				int run = readVarInt(data, pos);
+
+				for(int i = 0; i < run; i++)
+				{
+					queue.add(index+i, null);
+				}
+
+				previous = index+run-1;
+				read += run;
+			}
+
+			for(int i = start; i < start+count;)
+			{
+				int run = readVarInt(data, pos);
+				int id = readVarInt(data, pos);
+				MinerFilter filter = id > 0 ? filters.get(id-1) : null;
+
+				for(int j = 0; j < run; j++)
+				{
+					queue.targetFilters[i++] = filter;
+				}
+			}
+		}
+
+		return queue;
+	}
+
+	private static int zigZag(int value)
+	{
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static int unZigZag(int value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarInt(ByteArrayOutputStream out, int value)
+	{
+		while((value & ~0x7F) != 0)
+		{
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		out.write(value);
+	}
+
+	private static int readVarInt(byte[] data, int[] pos)
+	{
+		int value = 0;
+		int shift = 0;
+		byte b;
+
+		do {
+			b = data[pos[0]++];
+			value |= (b & 0x7F) << shift;
+			shift += 7;
+		} while((b & 0x80) != 0);
+
+		return value;
+	}
+}
@@ -1,40 +1,197 @@
 package mekanism.common.content.miner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 
-import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.api.util.BlockInfo;
+import mekanism.api.util.LongHashSet;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockLiquid;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.fluids.IFluidBlock;
 
+/**
+ * Searches a Digital Miner's area for blocks to mine. The chunk sections in range are copied on the server thread
+ * when the search starts, along with whether each distinct block state is air or unbreakable, so the search itself
+ * never touches the world. The copies are then scanned column by column on a shared, bounded fork-join pool. Columns
+ * are scanned in ascending index order, so their results go straight into the miner's queue.
+ */
 public class ThreadMinerSearch extends Thread
 {
+	private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()-1)));
+
+	/** Memo markers for block states that matched no filter, or can never be mined. */
+	private static final Object NO_FILTER = new Object();
+	private static final Object SKIP = new Object();
+
+	/**
+	 * Palette index + 1 of each block state id seen by the snapshot being taken, or 0. Only used on the server thread
+	 * and cleared again after each snapshot, even a failed one, so all searches share it.
+	 */
+	private static final char[] PALETTE_INDICES = new char[1 << 16];
+
 	public TileEntityDigitalMiner tileEntity;
 
 	public State state = State.IDLE;
 
-	public Map<Chunk3D, BitSet> oresToMine = new HashMap<Chunk3D, BitSet>();
-	public Map<Integer, MinerFilter> replaceMap = new HashMap<Integer, MinerFilter>();
+	public MinerQueue oreQueue = new MinerQueue();
 
 	public Map<BlockInfo, MinerFilter> acceptedItems = new HashMap<BlockInfo, MinerFilter>();
 
-	public int found = 0;
+	public volatile int found = 0;
+
+	/** Block state ids seen by the snapshot, indexed by the palette indices stored in the snapshot's sections. */
+	private int[] palette = new int[64];
+	private int paletteSize = 0;
+
+	/** Palette entries that are air or unbreakable at the first position they were seen at. */
+	private BitSet skipStates = new BitSet();
+
+	/** Classification of each palette entry, filled in before the columns are searched. */
+	private Object[] classifications;
+
+	private List<ColumnSnapshot> columns = new ArrayList<ColumnSnapshot>();
+	private LongHashSet boundingBlocks = new LongHashSet();
+
+	private World world;
+	private Coord4D startCoord;
+	private BlockPos minerPos;
+	private int diameter;
+	private int height;
 
 	public ThreadMinerSearch(TileEntityDigitalMiner tile)
 	{
 		tileEntity = tile;
 	}
 
+	/**
+	 * Snapshots the area on the calling (server) thread before the search thread is started.
+	 */
+	@Override
+	public synchronized void start()
+	{
+		snapshot();
+		super.start();
+	}
+
+	private void snapshot()
+	{
+		world = tileEntity.getWorld();
+		startCoord = tileEntity.getStartingCoord();
+		minerPos = tileEntity.getPos();
+		diameter = tileEntity.getDiameter();
+		height = tileEntity.getTotalSize()/(diameter*diameter);
+
+		if(!tileEntity.inverse && tileEntity.filters.isEmpty())
+		{
+			return;
+		}
+
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+		int minSection = Math.max(0, startCoord.yCoord >> 4);
+		int maxSection = Math.min(15, (startCoord.yCoord+height-1) >> 4);
+
+		try {
+			for(int chunkX = startCoord.xCoord >> 4; chunkX <= (startCoord.xCoord+diameter-1) >> 4; chunkX++)
+			{
+				for(int chunkZ = startCoord.zCoord >> 4; chunkZ <= (startCoord.zCoord+diameter-1) >> 4; chunkZ++)
+				{
+					Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+
+					if(chunk == null)
+					{
+						continue;
+					}
+
+					ColumnSnapshot column = new ColumnSnapshot(chunkX, chunkZ);
+					ExtendedBlockStorage[] storageArray = chunk.getBlockStorageArray();
+
+					for(int section = minSection; section <= maxSection; section++)
+					{
+						ExtendedBlockStorage storage = storageArray[section];
+
+						if(storage != Chunk.NULL_BLOCK_STORAGE && !storage.isEmpty())
+						{
+							char[] states = new char[4096];
+
+							for(int i = 0; i < 4096; i++)
+							{
+								IBlockState state = storage.get(i & 15, i >> 8, (i >> 4) & 15);
+								int stateId = Block.getStateId(state);
+								int index = PALETTE_INDICES[stateId];
+
+								if(index == 0)
+								{
+									pos.setPos((chunkX << 4) + (i & 15), (section << 4) + (i >> 8), (chunkZ << 4) + ((i >> 4) & 15));
+									index = addToPalette(stateId, state, pos);
+								}
+
+								states[i] = (char)(index-1);
+							}
+
+							column.sections[section] = states;
+						}
+					}
+
+					for(TileEntity tile : chunk.getTileEntityMap().values())
+					{
+						if(tile instanceof TileEntityBoundingBlock)
+						{
+							BlockPos tilePos = tile.getPos();
+							boundingBlocks.add(Coord4D.pack(tilePos.getX(), tilePos.getY(), tilePos.getZ()));
+						}
+					}
+
+					columns.add(column);
+				}
+			}
+		} finally {
+			//Other searches share the indices, so clear them even if a block threw while being checked
+			for(int i = 0; i < paletteSize; i++)
+			{
+				PALETTE_INDICES[palette[i]] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Adds a block state to the palette, checking whether it is air or unbreakable at the given position.
+	 * @return the new entry's palette index + 1
+	 */
+	private int addToPalette(int stateId, IBlockState state, BlockPos pos)
+	{
+		if(paletteSize == palette.length)
+		{
+			palette = Arrays.copyOf(palette, paletteSize*2);
+		}
+
+		if(state.getBlock().isAir(state, world, pos) || state.getBlockHardness(world, pos) < 0)
+		{
+			skipStates.set(paletteSize);
+		}
+
+		palette[paletteSize++] = stateId;
+		PALETTE_INDICES[stateId] = (char)paletteSize;
+
+		return paletteSize;
+	}
+
 	@Override
 	public void run()
 	{
@@ -46,107 +203,204 @@ public class ThreadMinerSearch extends Thread
 			return;
 		}
 
-		Coord4D coord = tileEntity.getStartingCoord();
-		int diameter = tileEntity.getDiameter();
-		int size = tileEntity.getTotalSize();
-		BlockInfo info = new BlockInfo(null, 0);
+		classifications = new Object[paletteSize];
+
+		for(int i = 0; i < paletteSize; i++)
+		{
+			classifications[i] = skipStates.get(i) ? SKIP : classify(Block.getStateById(palette[i]));
+		}
+
+		List<ColumnSearch> tasks = new ArrayList<ColumnSearch>();
 
-		for(int i = 0; i < size; i++)
+		for(ColumnSnapshot column : columns)
 		{
-			int x = coord.xCoord+i%diameter;
-			int z = coord.zCoord+(i/diameter)%diameter;
-			int y = coord.yCoord+(i/diameter/diameter);
+			tasks.add(new ColumnSearch(column));
+		}
 
-			if(tileEntity.isInvalid())
+		SEARCH_POOL.invokeAll(tasks);
+
+		if(isCancelled())
+		{
+			return;
+		}
+
+		for(ColumnSearch task : tasks)
+		{
+			if(task.count > 0)
 			{
-				return;
-			}
+				oreQueue.beginChunk(task.column.chunkX, task.column.chunkZ);
 
-			try {
-				if(tileEntity.getPos().getX() == x && tileEntity.getPos().getY() == y && tileEntity.getPos().getZ() == z)
+				for(int i = 0; i < task.count; i++)
 				{
-					continue;
+					oreQueue.add(task.indices[i], task.filters[i]);
 				}
-	
-				if(tileEntity.getWorld().getChunkProvider().getLoadedChunk(x >> 4, z >> 4) == null)
+			}
+		}
+
+		columns = null;
+		boundingBlocks = null;
+		classifications = null;
+
+		tileEntity.oreQueue = oreQueue;
+		state = State.FINISHED;
+		MekanismUtils.saveChunk(tileEntity);
+	}
+
+	private boolean isCancelled()
+	{
+		return isInterrupted() || tileEntity.isInvalid();
+	}
+
+	private synchronized void addFound(int amount)
+	{
+		found += amount;
+	}
+
+	/**
+	 * Works out what to do with a block state that isn't air or unbreakable.
+	 * @return the matching MinerFilter, NO_FILTER or SKIP
+	 */
+	private Object classify(IBlockState state)
+	{
+		Block block = state.getBlock();
+
+		if(block == null || block instanceof BlockLiquid || block instanceof IFluidBlock)
+		{
+			return SKIP;
+		}
+
+		BlockInfo info = new BlockInfo(block, block.getMetaFromState(state));
+		MinerFilter filterFound = null;
+
+		if(acceptedItems.containsKey(info))
+		{
+			filterFound = acceptedItems.get(info);
+		}
+		else {
+			ItemStack stack = new ItemStack(info.block, 1, info.meta);
+
+			if(tileEntity.isReplaceStack(stack))
+			{
+				return SKIP;
+			}
+
+			for(MinerFilter filter : tileEntity.filters)
+			{
+				if(filter.canFilter(stack))
 				{
-					continue;
+					filterFound = filter;
+					break;
 				}
-	
-				TileEntity tile = tileEntity.getWorld().getTileEntity(new BlockPos(x, y, z));
-				
-				if(tile instanceof TileEntityBoundingBlock)
+			}
+
+			acceptedItems.put(info, filterFound);
+		}
+
+		return filterFound != null ? filterFound : NO_FILTER;
+	}
+
+	private static class ColumnSnapshot
+	{
+		public final int chunkX;
+		public final int chunkZ;
+
+		/** Palette indices of each 16x16x16 section, indexed y << 8 | z << 4 | x, or null if empty or out of range. */
+		public final char[][] sections = new char[16][];
+
+		public ColumnSnapshot(int x, int z)
+		{
+			chunkX = x;
+			chunkZ = z;
+		}
+	}
+
+	private class ColumnSearch implements Callable<Void>
+	{
+		public final ColumnSnapshot column;
+
+		/** Targets found in this column, in ascending index order, and the filter each one matched. */
+		public int[] indices = new int[16];
+		public MinerFilter[] filters = new MinerFilter[16];
+		public int count = 0;
+
+		public ColumnSearch(ColumnSnapshot snapshot)
+		{
+			column = snapshot;
+		}
+
+		@Override
+		public Void call()
+		{
+			int minX = Math.max(startCoord.xCoord, column.chunkX << 4);
+			int maxX = Math.min(startCoord.xCoord+diameter-1, (column.chunkX << 4) + 15);
+			int minZ = Math.max(startCoord.zCoord, column.chunkZ << 4);
+			int maxZ = Math.min(startCoord.zCoord+diameter-1, (column.chunkZ << 4) + 15);
+
+			for(int y = startCoord.yCoord; y < startCoord.yCoord+height; y++)
+			{
+				if(isCancelled())
 				{
-					continue;
+					return null;
 				}
 
-				IBlockState state = tileEntity.getWorld().getBlockState(new BlockPos(x, y, z));
-				info.block = state.getBlock();
-				info.meta = state.getBlock().getMetaFromState(state);
-	
-				if(info.block instanceof BlockLiquid || info.block instanceof IFluidBlock)
+				char[] states = y >= 0 && y < 256 ? column.sections[y >> 4] : null;
+
+				if(states == null)
 				{
 					continue;
 				}
-	
-				if(info.block != null && !tileEntity.getWorld().isAirBlock(new BlockPos(x, y, z)) && state.getBlockHardness(tileEntity.getWorld(), new BlockPos(x, y, z)) >= 0)
+
+				int columnFound = 0;
+
+				for(int z = minZ; z <= maxZ; z++)
 				{
-					MinerFilter filterFound = null;
-					boolean canFilter = false;
-	
-					if(acceptedItems.containsKey(info))
+					for(int x = minX; x <= maxX; x++)
 					{
-						filterFound = acceptedItems.get(info);
-					}
-					else {
-						ItemStack stack = new ItemStack(info.block, 1, info.meta);
-	
-						if(tileEntity.isReplaceStack(stack))
+						if(x == minerPos.getX() && y == minerPos.getY() && z == minerPos.getZ())
+						{
+							continue;
+						}
+
+						if(boundingBlocks.contains(Coord4D.pack(x, y, z)))
+						{
+							continue;
+						}
+
+						Object classification = classifications[states[(y & 15) << 8 | (z & 15) << 4 | (x & 15)]];
+
+						if(classification == SKIP)
 						{
 							continue;
 						}
-	
-						for(MinerFilter filter : tileEntity.filters)
+
+						boolean canFilter = tileEntity.inverse ? classification == NO_FILTER : classification != NO_FILTER;
+
+						if(canFilter)
 						{
-							if(filter.canFilter(stack))
+							int index = (x-startCoord.xCoord) + (z-startCoord.zCoord)*diameter + (y-startCoord.yCoord)*diameter*diameter;
+
+							if(count == indices.length)
 							{
-								filterFound = filter;
-								break;
+								indices = Arrays.copyOf(indices, count*2);
+								filters = Arrays.copyOf(filters, count*2);
 							}
+
+							indices[count] = index;
+							filters[count] = classification == NO_FILTER ? null : (MinerFilter)classification;
+							count++;
+							columnFound++;
 						}
-	
-						acceptedItems.put(info, filterFound);
-					}
-					
-					canFilter = tileEntity.inverse ? filterFound == null : filterFound != null;
-	
-					if(canFilter)
-					{
-						set(i, new Coord4D(x, y, z, tileEntity.getWorld().provider.getDimension()));
-						replaceMap.put(i, filterFound);
-						
-						found++;
 					}
 				}
-			} catch(Exception e) {}
-		}
 
-		state = State.FINISHED;
-		tileEntity.oresToMine = oresToMine;
-		tileEntity.replaceMap = replaceMap;
-		MekanismUtils.saveChunk(tileEntity);
-	}
-	
-	public void set(int i, Coord4D location)
-	{
-		Chunk3D chunk = new Chunk3D(location);
-		
-		if(oresToMine.get(chunk) == null)
-		{
-			oresToMine.put(chunk, new BitSet());
+				if(columnFound > 0)
+				{
+					addFound(columnFound);
+				}
+			}
+
+			return null;
 		}
-		
-		oresToMine.get(chunk).set(i);
 	}
 
 	public void reset()
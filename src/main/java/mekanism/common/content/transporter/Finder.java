@@ -1,10 +1,8 @@
 package mekanism.common.content.transporter;
 
-import java.util.List;
-
 import mekanism.api.util.StackUtils;
+import mekanism.common.OreDictCache;
 import mekanism.common.util.ItemRegistryUtils;
-import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.item.ItemBlock;
@@ -35,43 +33,7 @@ public abstract class Finder
 		@Override
 		public boolean modifies(ItemStack stack)
 		{
-			List<String> oreKeys = MekanismUtils.getOreDictName(stack);
-
-			if(oreKeys.isEmpty())
-			{
-				return false;
-			}
-
-			for(String oreKey : oreKeys)
-			{
-				if(oreDictName.equals(oreKey) || oreDictName.equals("*"))
-				{
-					return true;
-				}
-				else if(oreDictName.endsWith("*") && !oreDictName.startsWith("*"))
-				{
-					if(oreKey.startsWith(oreDictName.substring(0, oreDictName.length()-1)))
-					{
-						return true;
-					}
-				}
-				else if(oreDictName.startsWith("*") && !oreDictName.endsWith("*"))
-				{
-					if(oreKey.endsWith(oreDictName.substring(1)))
-					{
-						return true;
-					}
-				}
-				else if(oreDictName.startsWith("*") && oreDictName.endsWith("*"))
-				{
-					if(oreKey.contains(oreDictName.substring(1, oreDictName.length()-1)))
-					{
-						return true;
-					}
-				}
-			}
-
-			return false;
+			return OreDictCache.hasOreDictName(stack, oreDictName);
 		}
 	}
 
@@ -129,35 +91,7 @@ public abstract class Finder
 				return false;
 			}
 			
-			String id = ItemRegistryUtils.getMod(stack);
-			
-			if(modID.equals(id) || modID.equals("*"))
-			{
-				return true;
-			}
-			else if(modID.endsWith("*") && !modID.startsWith("*"))
-			{
-				if(id.startsWith(modID.substring(0, modID.length()-1)))
-				{
-					return true;
-				}
-			}
-			else if(modID.startsWith("*") && !modID.endsWith("*"))
-			{
-				if(id.endsWith(modID.substring(1)))
-				{
-					return true;
-				}
-			}
-			else if(modID.startsWith("*") && modID.endsWith("*"))
-			{
-				if(id.contains(modID.substring(1, modID.length()-1)))
-				{
-					return true;
-				}
-			}
-			
-			return false;
+			return OreDictCache.matches(modID, ItemRegistryUtils.getMod(stack));
 		}
 	}
 }
@@ -2,30 +2,84 @@ package mekanism.common.content.transporter;
 
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import mekanism.api.Coord4D;
+import mekanism.api.MekanismConfig.general;
 import net.minecraft.util.EnumFacing;
 
+/**
+ * Cache of transporter paths belonging to a single InventoryNetwork. Least recently used paths are evicted once the
+ * configured size is reached, and changes only drop the paths running through or next to the changed location.
+ */
 public class PathfinderCache 
 {
-	public static Map<PathData, List<Coord4D>> cachedPaths = new HashMap<PathData, List<Coord4D>>();
+	private Map<PathData, List<Coord4D>> cachedPaths = new LinkedHashMap<PathData, List<Coord4D>>(16, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<PathData, List<Coord4D>> eldest)
+		{
+			if(size() > general.transporterPathCacheSize)
+			{
+				unindex(eldest.getKey(), eldest.getValue());
+				return true;
+			}
+			
+			return false;
+		}
+	};
+	
+	private Map<Coord4D, Set<PathData>> pathsThrough = new HashMap<Coord4D, Set<PathData>>();
+	
+	private PathData lookup = new PathData(null, null, null);
+	
+	/**
+	 * Drops every cached path that runs through or next to the given location, as those may now be blocked or no longer the shortest.
+	 * @param location - location of the transporter that changed
+	 */
+	public void onChanged(Coord4D location)
+	{
+		invalidate(location);
+		
+		for(EnumFacing side : EnumFacing.VALUES)
+		{
+			invalidate(location.offset(side));
+		}
+	}
 	
-	public static void onChanged(Coord4D location)
+	private void invalidate(Coord4D location)
 	{
-		reset();
+		Set<PathData> affected = pathsThrough.remove(location);
+		
+		if(affected != null)
+		{
+			for(PathData data : affected)
+			{
+				List<Coord4D> path = cachedPaths.remove(data);
+				
+				if(path != null)
+				{
+					unindex(data, path);
+				}
+			}
+		}
 	}
 	
-	public static List<Coord4D> getCache(Coord4D start, Coord4D end, EnumSet<EnumFacing> sides)
+	public List<Coord4D> getCache(Coord4D start, Coord4D end, EnumSet<EnumFacing> sides)
 	{
 		List<Coord4D> ret = null;
 		
+		lookup.startTransporter = start;
+		lookup.end = end;
+		
 		for(EnumFacing side : sides)
 		{
-			PathData data = new PathData(start, end, side);
+			lookup.endSide = side;
 
-			List<Coord4D> test = cachedPaths.get(data);
+			List<Coord4D> test = cachedPaths.get(lookup);
 			
 			if(ret == null || (test != null && test.size() < ret.size()))
 			{
@@ -36,9 +90,55 @@ public class PathfinderCache
 		return ret;
 	}
 	
-	public static void reset()
+	public void put(PathData data, List<Coord4D> path)
+	{
+		List<Coord4D> prev = cachedPaths.put(data, path);
+		
+		if(prev != null)
+		{
+			unindex(data, prev);
+		}
+		
+		for(Coord4D coord : path)
+		{
+			Set<PathData> set = pathsThrough.get(coord);
+			
+			if(set == null)
+			{
+				pathsThrough.put(coord, set = new HashSet<PathData>());
+			}
+			
+			set.add(data);
+		}
+	}
+	
+	private void unindex(PathData data, List<Coord4D> path)
+	{
+		for(Coord4D coord : path)
+		{
+			Set<PathData> set = pathsThrough.get(coord);
+			
+			if(set != null)
+			{
+				set.remove(data);
+				
+				if(set.isEmpty())
+				{
+					pathsThrough.remove(coord);
+				}
+			}
+		}
+	}
+	
+	public int size()
+	{
+		return cachedPaths.size();
+	}
+	
+	public void reset()
 	{
 		cachedPaths.clear();
+		pathsThrough.clear();
 	}
 	
 	public static class PathData
@@ -75,4 +175,4 @@ public class PathfinderCache
 			return code;
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,186 @@
+package mekanism.common.content.transporter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mekanism.api.util.ItemInfo;
+import mekanism.common.HashList;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumFacing;
+
+/**
+ * A Logistical Sorter's filter list compiled into a lookup from item type to the filters that accept it. Every
+ * finder and filter check only looks at an item and its damage, so the result is memoized per ItemInfo and thrown
+ * away whenever the filter list is edited.
+ */
+public class TransporterFilterIndex
+{
+	/** Cleared when it grows past this, so an inventory cycling through many item types can't hold on to memory. */
+	private static final int MAX_ENTRIES = 1024;
+
+	private static final int[] NONE = new int[0];
+
+	private TransporterFilter[] filters = new TransporterFilter[0];
+
+	private Map<ItemInfo, int[]> matches = new HashMap<ItemInfo, int[]>();
+
+	/**
+	 * Brings the index up to date with the given filter list, dropping the memoized matches if it changed.
+	 */
+	public void update(HashList<TransporterFilter> list)
+	{
+		boolean changed = list.size() != filters.length;
+
+		for(int i = 0; i < filters.length && !changed; i++)
+		{
+			changed = list.get(i) != filters[i];
+		}
+
+		if(changed)
+		{
+			filters = new TransporterFilter[list.size()];
+
+			for(int i = 0; i < filters.length; i++)
+			{
+				filters[i] = list.get(i);
+			}
+
+			matches.clear();
+		}
+	}
+
+	public int size()
+	{
+		return filters.length;
+	}
+
+	public TransporterFilter get(int index)
+	{
+		return filters[index];
+	}
+
+	/**
+	 * Gets the positions of the filters that can take the given stack, in filter order. Filters in size mode are
+	 * included whenever their item matches, as they can only decide once the matching stacks are added up.
+	 */
+	public int[] getMatches(ItemStack stack)
+	{
+		ItemInfo info = ItemInfo.get(stack);
+		int[] ret = matches.get(info);
+
+		if(ret == null)
+		{
+			if(matches.size() >= MAX_ENTRIES)
+			{
+				matches.clear();
+			}
+
+			ret = compute(stack);
+			matches.put(info, ret);
+		}
+
+		return ret;
+	}
+
+	private int[] compute(ItemStack stack)
+	{
+		ItemStack type = stack.copy();
+		type.stackSize = 1;
+
+		int[] found = new int[filters.length];
+		int count = 0;
+
+		for(int i = 0; i < filters.length; i++)
+		{
+			TransporterFilter filter = filters[i];
+
+			if(filter == null || !filter.getFinder().modifies(type))
+			{
+				continue;
+			}
+
+			if(isSizeMode(filter) || filter.canFilter(type))
+			{
+				found[count++] = i;
+			}
+		}
+
+		if(count == 0)
+		{
+			return NONE;
+		}
+
+		int[] ret = new int[count];
+		System.arraycopy(found, 0, ret, 0, count);
+
+		return ret;
+	}
+
+	/**
+	 * Scans the inventory once, in the same order and with the same extraction checks as a StackSearcher.
+	 * @return for each filter, the slots holding stacks it can take, or null if there are none
+	 */
+	public List<List<Integer>> getCandidateSlots(IInventory inventory, EnumFacing side)
+	{
+		List<List<Integer>> ret = new ArrayList<List<Integer>>(filters.length);
+
+		for(int i = 0; i < filters.length; i++)
+		{
+			ret.add(null);
+		}
+
+		if(filters.length == 0)
+		{
+			return ret;
+		}
+
+		int[] slots = null;
+		int size = inventory.getSizeInventory();
+
+		if(inventory instanceof ISidedInventory)
+		{
+			slots = ((ISidedInventory)inventory).getSlotsForFace(side.getOpposite());
+			size = slots != null ? slots.length : 0;
+		}
+
+		for(int i = size-1; i >= 0; i--)
+		{
+			int slotID = slots != null ? slots[i] : i;
+			ItemStack stack = inventory.getStackInSlot(slotID);
+
+			if(stack == null)
+			{
+				continue;
+			}
+
+			if(slots != null && !((ISidedInventory)inventory).canExtractItem(slotID, stack, side.getOpposite()))
+			{
+				continue;
+			}
+
+			for(int index : getMatches(stack))
+			{
+				List<Integer> list = ret.get(index);
+
+				if(list == null)
+				{
+					list = new ArrayList<Integer>();
+					ret.set(index, list);
+				}
+
+				list.add(slotID);
+			}
+		}
+
+		return ret;
+	}
+
+	public static boolean isSizeMode(TransporterFilter filter)
+	{
+		return filter instanceof TItemStackFilter && ((TItemStackFilter)filter).sizeMode;
+	}
+}
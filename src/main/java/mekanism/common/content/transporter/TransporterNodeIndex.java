@@ -0,0 +1,215 @@
+package mekanism.common.content.transporter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import mekanism.api.Coord4D;
+import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.common.InventoryNetwork;
+import mekanism.common.base.ILogisticalTransporter;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.util.EnumFacing;
+
+/**
+ * Dense snapshot of the transporters in an InventoryNetwork, numbered 0..size-1 so the pathfinder can work on
+ * primitive arrays instead of maps keyed by Coord4D. Also owns the search scratch arrays, which are reused between
+ * searches and reset lazily through a search stamp.
+ */
+public class TransporterNodeIndex
+{
+	public final int size;
+
+	public final Coord4D[] coords;
+	public final ILogisticalTransporter[] transporters;
+
+	/** Node adjacent to each node on each side, stored at node*6 + side.ordinal(), or -1 if there is none. */
+	public final int[] neighbours;
+
+	private final HashMap<Coord4D, Integer> ids = new HashMap<Coord4D, Integer>();
+
+	final double[] gScore;
+	final double[] fScore;
+	final int[] parent;
+
+	private final int[] openStamp;
+	private final int[] closedStamp;
+	private int stamp = 0;
+
+	private final int[] heap;
+	private final int[] heapIndex;
+	private int heapSize = 0;
+
+	public TransporterNodeIndex(Map<Coord4D, IGridTransmitter<IInventory, InventoryNetwork>> transmitterCoords)
+	{
+		for(Entry<Coord4D, IGridTransmitter<IInventory, InventoryNetwork>> entry : transmitterCoords.entrySet())
+		{
+			if(entry.getValue() instanceof ILogisticalTransporter)
+			{
+				ids.put(entry.getKey(), ids.size());
+			}
+		}
+
+		size = ids.size();
+		coords = new Coord4D[size];
+		transporters = new ILogisticalTransporter[size];
+		neighbours = new int[size*6];
+
+		for(Entry<Coord4D, Integer> entry : ids.entrySet())
+		{
+			coords[entry.getValue()] = entry.getKey();
+			transporters[entry.getValue()] = (ILogisticalTransporter)transmitterCoords.get(entry.getKey());
+		}
+
+		for(int node = 0; node < size; node++)
+		{
+			for(EnumFacing side : EnumFacing.VALUES)
+			{
+				neighbours[node*6 + side.ordinal()] = getId(coords[node].offset(side));
+			}
+		}
+
+		gScore = new double[size];
+		fScore = new double[size];
+		parent = new int[size];
+		openStamp = new int[size];
+		closedStamp = new int[size];
+		heap = new int[size];
+		heapIndex = new int[size];
+	}
+
+	/**
+	 * @return the node at the given position, or -1 if no transporter of this network is there
+	 */
+	public int getId(Coord4D coord)
+	{
+		Integer id = ids.get(coord);
+
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * Clears the open and closed sets for a new search.
+	 */
+	void beginSearch()
+	{
+		heapSize = 0;
+
+		if(++stamp == 0)
+		{
+			Arrays.fill(openStamp, 0);
+			Arrays.fill(closedStamp, 0);
+			stamp = 1;
+		}
+	}
+
+	boolean isOpen(int node)
+	{
+		return openStamp[node] == stamp;
+	}
+
+	boolean isClosed(int node)
+	{
+		return closedStamp[node] == stamp;
+	}
+
+	void close(int node)
+	{
+		closedStamp[node] = stamp;
+	}
+
+	boolean hasOpen()
+	{
+		return heapSize > 0;
+	}
+
+	/**
+	 * Adds a node to the open set, or moves it up if its fScore was lowered while it was already open.
+	 */
+	void open(int node)
+	{
+		if(isOpen(node))
+		{
+			siftUp(heapIndex[node]);
+			return;
+		}
+
+		openStamp[node] = stamp;
+		heap[heapSize] = node;
+		heapIndex[node] = heapSize;
+		siftUp(heapSize++);
+	}
+
+	/**
+	 * Removes and returns the open node with the lowest fScore.
+	 */
+	int pollOpen()
+	{
+		int node = heap[0];
+		openStamp[node] = 0;
+
+		if(--heapSize > 0)
+		{
+			heap[0] = heap[heapSize];
+			heapIndex[heap[0]] = 0;
+			siftDown(0);
+		}
+
+		return node;
+	}
+
+	private void siftUp(int pos)
+	{
+		int node = heap[pos];
+
+		while(pos > 0)
+		{
+			int parentPos = (pos-1) >> 1;
+
+			if(fScore[heap[parentPos]] <= fScore[node])
+			{
+				break;
+			}
+
+			heap[pos] = heap[parentPos];
+			heapIndex[heap[pos]] = pos;
+			pos = parentPos;
+		}
+
+		heap[pos] = node;
+		heapIndex[node] = pos;
+	}
+
+	private void siftDown(int pos)
+	{
+		int node = heap[pos];
+
+		while(true)
+		{
+			int child = (pos << 1) + 1;
+
+			if(child >= heapSize)
+			{
+				break;
+			}
+
+			if(child+1 < heapSize && fScore[heap[child+1]] < fScore[heap[child]])
+			{
+				child++;
+			}
+
+			if(fScore[node] <= fScore[heap[child]])
+			{
+				break;
+			}
+
+			heap[pos] = heap[child];
+			heapIndex[heap[pos]] = pos;
+			pos = child;
+		}
+
+		heap[pos] = node;
+		heapIndex[node] = pos;
+	}
+}
@@ -4,10 +4,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.util.CapabilityUtils;
@@ -289,20 +287,24 @@ public final class TransporterPathfinder
 	
 	public static Destination getPath(DestChecker checker, EnumSet<EnumFacing> sides, ILogisticalTransporter start, Coord4D dest, TransporterStack stack, ItemStack rejects, int min)
 	{
-		List<Coord4D> test = PathfinderCache.getCache(start.coord(), dest, sides);
+		PathfinderCache cache = start.getTransmitterNetwork() != null ? start.getTransmitterNetwork().pathCache : null;
+		List<Coord4D> test = cache != null ? cache.getCache(start.coord(), dest, sides) : null;
 		
 		if(test != null && checkPath(start.world(), test, stack))
 		{
 			return new Destination(test, false, rejects, 0).calculateScore(start.world());
 		}
 		
-		Pathfinder p = new Pathfinder(checker, start.world(), dest, start.coord(), stack);
+		Pathfinder p = new Pathfinder(checker, start, dest, stack);
 		
 		if(p.getPath().size() >= 2)
 		{
 			if(TransporterManager.getToUse(stack.itemStack, rejects).stackSize >= min)
 			{
-				PathfinderCache.cachedPaths.put(new PathData(start.coord(), dest, p.side), p.getPath());
+				if(cache != null)
+				{
+					cache.put(new PathData(start.coord(), dest, p.side), p.getPath());
+				}
 				
 				return new Destination(p.getPath(), false, rejects, p.finalScore);
 			}
@@ -375,12 +377,6 @@ public final class TransporterPathfinder
 
 	public static class Pathfinder
 	{
-		public final Set<Coord4D> openSet, closedSet;
-
-		public final HashMap<Coord4D, Coord4D> navMap;
-
-		public final HashMap<Coord4D, Double> gScore, fScore;
-
 		public final Coord4D start;
 
 		public final Coord4D finalNode;
@@ -397,42 +393,48 @@ public final class TransporterPathfinder
 
 		private World worldObj;
 
-		public Pathfinder(DestChecker checker, World world, Coord4D finishObj, Coord4D startObj, TransporterStack stack)
+		private InventoryNetwork network;
+
+		public Pathfinder(DestChecker checker, ILogisticalTransporter startTransporter, Coord4D finishObj, TransporterStack stack)
 		{
 			destChecker = checker;
-			worldObj = world;
+			worldObj = startTransporter.world();
+			network = startTransporter.getTransmitterNetwork();
 
 			finalNode = finishObj;
-			start = startObj;
+			start = startTransporter.coord();
 
 			transportStack = stack;
 
-			openSet = new HashSet<Coord4D>();
-			closedSet = new HashSet<Coord4D>();
-
-			navMap = new HashMap<Coord4D, Coord4D>();
-
-			gScore = new HashMap<Coord4D, Double>();
-			fScore = new HashMap<Coord4D, Double>();
-
 			results = new ArrayList<Coord4D>();
 
-			find(start);
+			find();
 		}
 
-		public boolean find(Coord4D start)
+		/**
+		 * A* over the network's dense node index. Open and closed sets, scores and parents are primitive arrays
+		 * owned by the index, and the open set is a binary heap keyed on fScore.
+		 */
+		public boolean find()
 		{
-			openSet.add(start);
-			gScore.put(start, 0D);
-			fScore.put(start, gScore.get(start) + getEstimate(start, finalNode));
+			if(network == null)
+			{
+				return false;
+			}
+
+			TransporterNodeIndex index = network.getNodeIndex();
+			int startNode = index.getId(start);
+
+			if(startNode < 0)
+			{
+				return false;
+			}
 
 			int blockCount = 0;
 
 			for(EnumFacing direction : EnumFacing.VALUES)
 			{
-				Coord4D neighbor = start.offset(direction);
-
-				if(!transportStack.canInsertToTransporter(neighbor.getTileEntity(worldObj), direction) && (!neighbor.equals(finalNode) || !destChecker.isValid(transportStack, direction, neighbor.getTileEntity(worldObj))))
+				if(!canEnter(index, startNode, direction) && !isDestination(index, startNode, direction))
 				{
 					blockCount++;
 				}
@@ -445,57 +447,50 @@ public final class TransporterPathfinder
 
 			double maxSearchDistance = start.distanceTo(finalNode) * 2;
 
-			while(!openSet.isEmpty())
-			{
-				Coord4D currentNode = null;
-				double lowestFScore = 0;
+			index.beginSearch();
+			index.gScore[startNode] = 0;
+			index.fScore[startNode] = getEstimate(start, finalNode);
+			index.parent[startNode] = -1;
+			index.open(startNode);
 
-				for(Coord4D node : openSet)
-				{
-					if(currentNode == null || fScore.get(node) < lowestFScore)
-					{
-						currentNode = node;
-						lowestFScore = fScore.get(node);
-					}
-				}
+			while(index.hasOpen())
+			{
+				int currentNode = index.pollOpen();
 
-				if(currentNode == null || start.distanceTo(currentNode) > maxSearchDistance)
+				if(start.distanceTo(index.coords[currentNode]) > maxSearchDistance)
 				{
 					break;
 				}
 
-				openSet.remove(currentNode);
-				closedSet.add(currentNode);
+				index.close(currentNode);
 
 				for(EnumFacing direction : EnumFacing.VALUES)
 				{
-					Coord4D neighbor = currentNode.offset(direction);
-
-					if(transportStack.canInsertToTransporter(neighbor.getTileEntity(worldObj), direction))
+					if(canEnter(index, currentNode, direction))
 					{
-						TileEntity tile = neighbor.getTileEntity(worldObj);
-						double tentativeG = gScore.get(currentNode) + CapabilityUtils.getCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, direction.getOpposite()).getCost();
+						int neighbor = index.neighbours[currentNode*6 + direction.ordinal()];
+						double tentativeG = index.gScore[currentNode] + index.transporters[neighbor].getCost();
 
-						if(closedSet.contains(neighbor))
+						if(index.isClosed(neighbor))
 						{
-							if(tentativeG >= gScore.get(neighbor))
+							if(tentativeG >= index.gScore[neighbor])
 							{
 								continue;
 							}
 						}
 
-						if(!openSet.contains(neighbor) || tentativeG < gScore.get(neighbor))
+						if(!index.isOpen(neighbor) || tentativeG < index.gScore[neighbor])
 						{
-							navMap.put(neighbor, currentNode);
-							gScore.put(neighbor, tentativeG);
-							fScore.put(neighbor, gScore.get(neighbor) + getEstimate(neighbor, finalNode));
-							openSet.add(neighbor);
+							index.parent[neighbor] = currentNode;
+							index.gScore[neighbor] = tentativeG;
+							index.fScore[neighbor] = tentativeG + getEstimate(index.coords[neighbor], finalNode);
+							index.open(neighbor);
 						}
 					}
-					else if(neighbor.equals(finalNode) && destChecker.isValid(transportStack, direction, neighbor.getTileEntity(worldObj)))
+					else if(isDestination(index, currentNode, direction))
 					{
 						side = direction;
-						results = reconstructPath(navMap, currentNode);
+						results = reconstructPath(index, currentNode);
 						return true;
 					}
 				}
@@ -504,18 +499,35 @@ public final class TransporterPathfinder
 			return false;
 		}
 
-		private ArrayList<Coord4D> reconstructPath(HashMap<Coord4D, Coord4D> naviMap, Coord4D currentNode)
+		private boolean canEnter(TransporterNodeIndex index, int node, EnumFacing direction)
 		{
-			ArrayList<Coord4D> path = new ArrayList<Coord4D>();
+			int neighbor = index.neighbours[node*6 + direction.ordinal()];
 
-			path.add(currentNode);
+			return neighbor >= 0 && transportStack.canInsertToTransporter(index.transporters[neighbor], direction.getOpposite());
+		}
+
+		private boolean isDestination(TransporterNodeIndex index, int node, EnumFacing direction)
+		{
+			Coord4D coord = index.coords[node];
 
-			if(naviMap.containsKey(currentNode))
+			if(coord.xCoord+direction.getFrontOffsetX() != finalNode.xCoord || coord.yCoord+direction.getFrontOffsetY() != finalNode.yCoord || coord.zCoord+direction.getFrontOffsetZ() != finalNode.zCoord)
 			{
-				path.addAll(reconstructPath(naviMap, naviMap.get(currentNode)));
+				return false;
 			}
 
-			finalScore = gScore.get(currentNode) + currentNode.distanceTo(finalNode);
+			return destChecker.isValid(transportStack, direction, finalNode.getTileEntity(worldObj));
+		}
+
+		private ArrayList<Coord4D> reconstructPath(TransporterNodeIndex index, int currentNode)
+		{
+			ArrayList<Coord4D> path = new ArrayList<Coord4D>();
+
+			finalScore = index.gScore[currentNode] + index.coords[currentNode].distanceTo(finalNode);
+
+			for(int node = currentNode; node >= 0; node = index.parent[node])
+			{
+				path.add(index.coords[node]);
+			}
 
 			return path;
 		}
@@ -556,7 +568,7 @@ public final class TransporterPathfinder
 				}
 			};
 
-			Pathfinder p = new Pathfinder(checker, start.world(), stack.homeLocation, start.coord(), stack);
+			Pathfinder p = new Pathfinder(checker, start, stack.homeLocation, stack);
 			List<Coord4D> path = p.getPath();
 
 			if(path.size() >= 2)
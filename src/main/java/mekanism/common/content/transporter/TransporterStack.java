@@ -4,6 +4,7 @@ import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
@@ -23,6 +24,11 @@ import org.apache.commons.lang3.tuple.Pair;
 
 public class TransporterStack
 {
+	private static final AtomicInteger nextSyncId = new AtomicInteger();
+
+	/** Identifies this stack in stack change packets. Kept as the stack moves between transporters. */
+	public int syncId = nextSyncId.getAndIncrement();
+
 	public ItemStack itemStack;
 
 	public int progress;
@@ -45,6 +51,8 @@ public class TransporterStack
 
 	public void write(ILogisticalTransporter transporter, ArrayList<Object> data)
 	{
+		data.add(syncId);
+
 		if(color != null)
 		{
 			data.add(TransporterUtils.colors.indexOf(color));
@@ -73,6 +81,8 @@ public class TransporterStack
 
 	public void read(ByteBuf dataStream)
 	{
+		syncId = dataStream.readInt();
+
 		int c = dataStream.readInt();
 
 		if(c != -1)
@@ -97,6 +107,42 @@ public class TransporterStack
 		itemStack = PacketHandler.readStack(dataStream);
 	}
 
+	/**
+	 * Writes only what changes as the stack moves along or is re-pathed, for stacks the client already has.
+	 */
+	public void writeMovement(ILogisticalTransporter transporter, ArrayList<Object> data)
+	{
+		data.add(progress);
+		data.add(pathType.ordinal());
+
+		if(pathToTarget.indexOf(transporter.coord()) > 0)
+		{
+			data.add(true);
+			getNext(transporter).write(data);
+		}
+		else {
+			data.add(false);
+		}
+
+		getPrev(transporter).write(data);
+	}
+
+	public void readMovement(ByteBuf dataStream)
+	{
+		progress = dataStream.readInt();
+		pathType = Path.values()[dataStream.readInt()];
+
+		if(dataStream.readBoolean())
+		{
+			clientNext = Coord4D.read(dataStream);
+		}
+		else {
+			clientNext = null;
+		}
+
+		clientPrev = Coord4D.read(dataStream);
+	}
+
 	public void write(NBTTagCompound nbtTags)
 	{
 		if(color != null)
@@ -5,9 +5,11 @@ import io.netty.buffer.ByteBuf;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
@@ -30,6 +32,14 @@ public class FrequencyManager
 	
 	private Set<Frequency> frequencies = new HashSet<Frequency>();
 	
+	/** Frequencies by owner, then by name. A public and a private frequency may share both. */
+	private Map<String, Map<String, List<Frequency>>> ownerIndex = new HashMap<String, Map<String, List<Frequency>>>();
+	
+	private Map<String, List<Frequency>> nameIndex = new HashMap<String, List<Frequency>>();
+	
+	/** The frequency each active location is currently on. */
+	private Map<Coord4D, Frequency> coordIndex = new HashMap<Coord4D, Frequency>();
+	
 	private FrequencyDataHandler dataHandler;
 	
 	private String owner;
@@ -65,15 +75,15 @@ public class FrequencyManager
 	
 	public Frequency update(String user, Coord4D coord, Frequency freq)
 	{
-		for(Frequency iterFreq : frequencies)
+		Frequency found = getFrequency(freq);
+		
+		if(found != null)
 		{
-			if(freq.equals(iterFreq))
-			{
-				iterFreq.activeCoords.add(coord);
-				dataHandler.markDirty();
-				
-				return iterFreq;
-			}
+			activate(coord, found);
+			//The frequency's contents are changed in place by the tiles using it
+			dataHandler.markDirty();
+			
+			return found;
 		}
 		
 		deactivate(coord);
@@ -83,79 +93,96 @@ public class FrequencyManager
 	
 	public void remove(String name, String owner)
 	{
-		for(Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext();)
+		Map<String, List<Frequency>> owned = ownerIndex.get(owner);
+		List<Frequency> found = owned != null ? owned.get(name) : null;
+		
+		if(found != null)
 		{
-			Frequency iterFreq = iter.next();
-			
-			if(iterFreq.name.equals(name) && iterFreq.owner.equals(owner))
+			for(Frequency freq : new ArrayList<Frequency>(found))
 			{
-				iter.remove();
-				dataHandler.markDirty();
+				removeFrequency(freq);
 			}
 		}
 	}
 	
 	public void remove(String name)
 	{
-		for(Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext();)
+		List<Frequency> found = nameIndex.get(name);
+		
+		if(found != null)
 		{
-			Frequency iterFreq = iter.next();
-			
-			if(iterFreq.name.equals(name))
+			for(Frequency freq : new ArrayList<Frequency>(found))
 			{
-				iter.remove();
-				dataHandler.markDirty();
+				removeFrequency(freq);
 			}
 		}
 	}
 	
 	public int removeAll(String user)
 	{
-		int amount = 0;
+		Map<String, List<Frequency>> owned = ownerIndex.get(user);
+		List<Frequency> found = new ArrayList<Frequency>();
 		
-		for(Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext();)
+		if(owned != null)
 		{
-			Frequency iterFreq = iter.next();
-			
-			if(iterFreq.owner.equals(user))
+			for(List<Frequency> list : owned.values())
 			{
-				iter.remove();
-				dataHandler.markDirty();
-				amount++;
+				found.addAll(list);
 			}
 		}
 		
-		return amount;
+		for(Frequency freq : found)
+		{
+			removeFrequency(freq);
+		}
+		
+		return found.size();
 	}
 	
 	public void deactivate(Coord4D coord)
 	{
-		for(Frequency freq : frequencies)
+		Frequency freq = coordIndex.remove(coord);
+		
+		if(freq != null && freq.activeCoords.remove(coord))
+		{
+			dataHandler.markDirty();
+		}
+	}
+	
+	/**
+	 * Marks the location as active on the frequency, moving it off any other frequency of this manager.
+	 */
+	public void activate(Coord4D coord, Frequency freq)
+	{
+		Frequency prev = coordIndex.put(coord, freq);
+		
+		if(prev != null && prev != freq)
+		{
+			prev.activeCoords.remove(coord);
+		}
+		
+		if(freq.activeCoords.add(coord))
 		{
-			freq.activeCoords.remove(coord);
 			dataHandler.markDirty();
 		}
 	}
 	
 	public Frequency validateFrequency(String user, Coord4D coord, Frequency freq)
 	{
-		for(Frequency iterFreq : frequencies)
+		Frequency found = getFrequency(freq);
+		
+		if(found != null)
 		{
-			if(freq.equals(iterFreq))
-			{
-				iterFreq.activeCoords.add(coord);
-				dataHandler.markDirty();
-				
-				return iterFreq;
-			}
+			activate(coord, found);
+			
+			return found;
 		}
 		
 		if(user.equals(freq.owner))
 		{
-			freq.activeCoords.add(coord);
 			freq.valid = true;
-			frequencies.add(freq);
-			dataHandler.markDirty();
+			addFrequency(freq);
+			activate(coord, freq);
 			
 			return freq;
 		}
@@ -163,6 +190,49 @@ public class FrequencyManager
 		return null;
 	}
 	
+	/**
+	 * @return the stored frequency equal to the given one, or null
+	 */
+	public Frequency getFrequency(Frequency freq)
+	{
+		Map<String, List<Frequency>> owned = ownerIndex.get(freq.owner);
+		List<Frequency> found = owned != null ? owned.get(freq.name) : null;
+		
+		if(found != null)
+		{
+			for(Frequency iterFreq : found)
+			{
+				if(freq.equals(iterFreq))
+				{
+					return iterFreq;
+				}
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * @return a stored frequency with the given name, or null
+	 */
+	public Frequency getFrequency(String name)
+	{
+		List<Frequency> found = nameIndex.get(name);
+		
+		return found != null ? found.get(0) : null;
+	}
+	
+	/**
+	 * @return a stored frequency with the given name and owner, or null
+	 */
+	public Frequency getFrequency(String name, String owner)
+	{
+		Map<String, List<Frequency>> owned = ownerIndex.get(owner);
+		List<Frequency> found = owned != null ? owned.get(name) : null;
+		
+		return found != null ? found.get(0) : null;
+	}
+	
 	public void createOrLoad(World world)
 	{
 		String name = getName();
@@ -210,21 +280,116 @@ public class FrequencyManager
 	
 	public void addFrequency(Frequency freq)
 	{
-		frequencies.add(freq);
+		if(frequencies.add(freq))
+		{
+			index(freq);
+		}
+		
 		dataHandler.markDirty();
 	}
 	
-	public boolean containsFrequency(String name)
+	private void removeFrequency(Frequency freq)
 	{
-		for(Frequency freq : frequencies)
+		if(frequencies.remove(freq))
+		{
+			unindex(freq);
+			dataHandler.markDirty();
+		}
+	}
+	
+	private void index(Frequency freq)
+	{
+		Map<String, List<Frequency>> owned = ownerIndex.get(freq.owner);
+		
+		if(owned == null)
+		{
+			owned = new HashMap<String, List<Frequency>>();
+			ownerIndex.put(freq.owner, owned);
+		}
+		
+		addToIndex(owned, freq.name, freq);
+		addToIndex(nameIndex, freq.name, freq);
+		
+		for(Coord4D coord : freq.activeCoords)
 		{
-			if(freq.name.equals(name))
+			Frequency prev = coordIndex.put(coord, freq);
+			
+			if(prev != null && prev != freq)
+			{
+				prev.activeCoords.remove(coord);
+			}
+		}
+	}
+	
+	private void unindex(Frequency freq)
+	{
+		Map<String, List<Frequency>> owned = ownerIndex.get(freq.owner);
+		
+		if(owned != null)
+		{
+			removeFromIndex(owned, freq.name, freq);
+			
+			if(owned.isEmpty())
 			{
-				return true;
+				ownerIndex.remove(freq.owner);
 			}
 		}
 		
-		return false;
+		removeFromIndex(nameIndex, freq.name, freq);
+		
+		for(Coord4D coord : freq.activeCoords)
+		{
+			if(coordIndex.get(coord) == freq)
+			{
+				coordIndex.remove(coord);
+			}
+		}
+	}
+	
+	private static void addToIndex(Map<String, List<Frequency>> index, String key, Frequency freq)
+	{
+		List<Frequency> list = index.get(key);
+		
+		if(list == null)
+		{
+			list = new ArrayList<Frequency>(1);
+			index.put(key, list);
+		}
+		
+		list.add(freq);
+	}
+	
+	private static void removeFromIndex(Map<String, List<Frequency>> index, String key, Frequency freq)
+	{
+		List<Frequency> list = index.get(key);
+		
+		if(list != null)
+		{
+			list.remove(freq);
+			
+			if(list.isEmpty())
+			{
+				index.remove(key);
+			}
+		}
+	}
+	
+	private void setFrequencies(Set<Frequency> freqs)
+	{
+		frequencies = freqs;
+		ownerIndex.clear();
+		nameIndex.clear();
+		coordIndex.clear();
+		
+		for(Frequency freq : frequencies)
+		{
+			index(freq);
+		}
+	}
+	
+	public boolean containsFrequency(String name)
+	{
+		return nameIndex.containsKey(name);
 	}
 	
 	public static void tick(World world)
@@ -253,6 +418,7 @@ public class FrequencyManager
 					if(!coord.exists(world))
 					{
 						iter.remove();
+						coordIndex.remove(coord);
 					}
 					else {
 						TileEntity tile = coord.getTileEntity(world);
@@ -260,6 +426,7 @@ public class FrequencyManager
 						if(!(tile instanceof IFrequencyHandler))
 						{
 							iter.remove();
+							coordIndex.remove(coord);
 						}
 						else {
 							Frequency freq = ((IFrequencyHandler)tile).getFrequency(this);
@@ -267,6 +434,11 @@ public class FrequencyManager
 							if(freq == null || !freq.equals(iterFreq))
 							{
 								iter.remove();
+								
+								if(coordIndex.get(coord) == iterFreq)
+								{
+									coordIndex.remove(coord);
+								}
 							}
 						}
 					}
@@ -313,7 +485,7 @@ public class FrequencyManager
 	{
 		for(FrequencyManager manager : managers)
 		{
-			manager.frequencies.clear();
+			manager.setFrequencies(new HashSet<Frequency>());
 			manager.dataHandler = null;
 		}
 		
@@ -341,7 +513,7 @@ public class FrequencyManager
 		{
 			if(loadedFrequencies != null)
 			{
-				manager.frequencies = loadedFrequencies;
+				manager.setFrequencies(loadedFrequencies);
 				manager.owner = loadedOwner;
 			}
 		}
@@ -9,6 +9,7 @@ import mekanism.common.base.IRedstoneControl;
 import mekanism.common.base.IRedstoneControl.RedstoneControl;
 import mekanism.common.base.ISideConfiguration;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.tile.TileEntityBasicBlock;
 import mekanism.common.tile.TileEntityContainerBlock;
 import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.LangUtils;
@@ -132,6 +133,11 @@ public class ItemConfigurationCard extends ItemMekanism
 			((ISideConfiguration)tile).getConfig().read(nbtTags);
 			((ISideConfiguration)tile).getEjector().read(nbtTags);
 		}
+		
+		if(tile instanceof TileEntityBasicBlock)
+		{
+			((TileEntityBasicBlock)tile).wake();
+		}
 	}
 	
 	private String getNameFromTile(TileEntity tile, EnumFacing side)
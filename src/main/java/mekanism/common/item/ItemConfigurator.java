@@ -102,6 +102,7 @@ public class ItemConfigurator extends ItemEnergized implements IMekWrench, ITool
 									if(config instanceof TileEntityBasicBlock)
 									{
 										TileEntityBasicBlock tileEntity = (TileEntityBasicBlock)config;
+										tileEntity.wake();
 										Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(tileEntity), tileEntity.getNetworkedData(new ArrayList())), new Range4D(Coord4D.get(tileEntity)));
 									}
 								}
@@ -1,6 +1,5 @@
 package mekanism.common.multiblock;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -20,6 +19,9 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 	
 	/** A map containing references to all multiblock inventory caches. */
 	public Map<String, MultiblockCache<T>> inventories = new HashMap<String, MultiblockCache<T>>();
+
+	/** Inventory ID each tracked location is cached under, per dimension. */
+	private Map<Integer, Map<Coord4D, String>> locationIds = new HashMap<Integer, Map<Coord4D, String>>();
 	
 	public MultiblockManager(String s)
 	{
@@ -39,6 +41,13 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 		
 		for(Coord4D obj : inventories.get(id).locations)
 		{
+			Map<Coord4D, String> ids = getLocationIds(obj.dimensionId);
+
+			if(id.equals(ids.get(obj)))
+			{
+				ids.remove(obj);
+			}
+
 			TileEntityMultiblock<T> tileEntity = (TileEntityMultiblock<T>)obj.getTileEntity(world);
 
 			if(tileEntity != null)
@@ -61,59 +70,50 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 	{
 		return UUID.randomUUID().toString();
 	}
-	
-	public static void tick(World world)
+
+	private Map<Coord4D, String> getLocationIds(int dimension)
 	{
-		for(MultiblockManager manager : managers)
+		Map<Coord4D, String> ids = locationIds.get(dimension);
+
+		if(ids == null)
 		{
-			manager.tickSelf(world);
+			ids = new HashMap<Coord4D, String>();
+			locationIds.put(dimension, ids);
 		}
+
+		return ids;
 	}
 
-	public void tickSelf(World world)
+	/**
+	 * Removes a location from an inventory cache, dropping the cache once it has no locations left.
+	 */
+	private void removeLocation(String id, Coord4D obj)
 	{
-		ArrayList<String> idsToKill = new ArrayList<String>();
-		HashMap<String, HashSet<Coord4D>> tilesToKill = new HashMap<String, HashSet<Coord4D>>();
+		MultiblockCache<T> cache = inventories.get(id);
 
-		for(Map.Entry<String, MultiblockCache<T>> entry : inventories.entrySet())
+		if(cache != null)
 		{
-			String inventoryID = entry.getKey();
+			cache.locations.remove(obj);
 
-			for(Coord4D obj : entry.getValue().locations)
+			if(cache.locations.isEmpty())
 			{
-				if(obj.dimensionId == world.provider.getDimension() && obj.exists(world))
-				{
-					TileEntity tileEntity = obj.getTileEntity(world);
-
-					if(!(tileEntity instanceof TileEntityMultiblock) || ((TileEntityMultiblock)tileEntity).getManager() != this || (getStructureId(((TileEntityMultiblock<?>)tileEntity)) != null && getStructureId(((TileEntityMultiblock)tileEntity)) != inventoryID))
-					{
-						if(!tilesToKill.containsKey(inventoryID))
-						{
-							tilesToKill.put(inventoryID, new HashSet<Coord4D>());
-						}
-
-						tilesToKill.get(inventoryID).add(obj);
-					}
-				}
-			}
-
-			if(entry.getValue().locations.isEmpty())
-			{
-				idsToKill.add(inventoryID);
+				inventories.remove(id);
 			}
 		}
+	}
 
-		for(Map.Entry<String, HashSet<Coord4D>> entry : tilesToKill.entrySet())
-		{
-			for(Coord4D obj : entry.getValue())
-			{
-				inventories.get(entry.getKey()).locations.remove(obj);
-			}
-		}
+	/**
+	 * Called when a multiblock tile is removed from the world, so its location stops referencing its cache.
+	 * @param tile - tile being removed
+	 */
+	public void invalidateLocation(TileEntityMultiblock<T> tile)
+	{
+		Coord4D obj = Coord4D.get(tile);
+		String id = getLocationIds(obj.dimensionId).remove(obj);
 
-		for(String inventoryID : idsToKill)
+		if(id != null)
 		{
-			inventories.remove(inventoryID);
+			removeLocation(id, obj);
 		}
 	}
 	
@@ -134,15 +134,24 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 	
 	public void updateCache(TileEntityMultiblock<T> tile)
 	{
+		Coord4D obj = Coord4D.get(tile);
+		String previous = getLocationIds(obj.dimensionId).put(obj, tile.cachedID);
+
+		//The tile has joined a structure with a different inventory
+		if(previous != null && !previous.equals(tile.cachedID))
+		{
+			removeLocation(previous, obj);
+		}
+
 		if(!inventories.containsKey(tile.cachedID))
 		{
-			tile.cachedData.locations.add(Coord4D.get(tile));
+			tile.cachedData.locations.add(obj);
 			inventories.put(tile.cachedID, tile.cachedData);
 
 			return;
 		}
 
-		inventories.get(tile.cachedID).locations.add(Coord4D.get(tile));
+		inventories.get(tile.cachedID).locations.add(obj);
 	}
 	
 	public static void reset()
@@ -150,6 +159,7 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 		for(MultiblockManager manager : managers)
 		{
 			manager.inventories.clear();
+			manager.locationIds.clear();
 		}
 	}
 }
@@ -26,6 +26,17 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 	/** The original block the calculation is getting run from. */
 	public TileEntityMultiblock<T> pointer;
 
+	/** Distance from the pointer covered by the node cache; any structure containing the pointer fits inside it. */
+	private static final int CACHE_RADIUS = 18;
+	private static final int CACHE_LENGTH = CACHE_RADIUS*2+1;
+
+	/** Flags in the node cache: each check has a bit marking it as computed and a bit holding its result. */
+	private static final int VIABLE = 0x01, INNER = 0x04, AIR = 0x10, FRAME = 0x40;
+
+	/** Node checks memoized over the box around the pointer for the duration of one run, indexed by cacheIndex(). */
+	private byte[] nodeCache;
+	private int cacheX, cacheY, cacheZ;
+
 	public UpdateProtocol(TileEntityMultiblock<T> tileEntity)
 	{
 		pointer = tileEntity;
@@ -142,7 +153,7 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 								rightBlocks = false;
 								break;
 							}
-							else if(isFrame(coord.translate(x, y, z), origX+xmin, origX+xmax, origY+ymin, origY+ymax, origZ+zmin, origZ+zmax) && !isValidFrame(origX+x, origY+y, origZ+z))
+							else if(isFrame(origX+x, origY+y, origZ+z, origX+xmin, origX+xmax, origY+ymin, origY+ymax, origZ+zmin, origZ+zmax) && !getCached(FRAME, origX+x, origY+y, origZ+z))
 							{
 								rightFrame = false;
 								break;
@@ -152,13 +163,13 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 							}
 						}
 						else {
-							if(!isValidInnerNode(origX+x, origY+y, origZ+z))
+							if(!getCached(INNER, origX+x, origY+y, origZ+z))
 							{
 								isHollow = false;
 								break;
 							}
 							else {
-								if(!isAir(origX+x, origY+y, origZ+z))
+								if(!getCached(AIR, origX+x, origY+y, origZ+z))
 								{
 									innerNodes.add(new Coord4D(origX+x, origY+y, origZ+z, pointer.getWorld().provider.getDimension()));
 								}
@@ -295,9 +306,19 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 	 * @return
 	 */
 	public boolean isViableNode(int x, int y, int z)
+	{
+		return getCached(VIABLE, x, y, z);
+	}
+
+	private boolean computeViableNode(int x, int y, int z)
 	{
 		TileEntity tile = new Coord4D(x, y, z, pointer.getWorld().provider.getDimension()).getTileEntity(pointer.getWorld());
 
+		if(tile == null || !tile.hasWorldObj() || tile.isInvalid())
+		{
+			return false;
+		}
+
 		if(tile instanceof IStructuralMultiblock)
 		{
 			if(((IStructuralMultiblock)tile).canInterface(pointer))
@@ -321,27 +342,67 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 	 */
 	public boolean isViableNode(BlockPos pos)
 	{
-		TileEntity tile = new Coord4D(pos, pointer.getWorld()).getTileEntity(pointer.getWorld());
-		
-		if(tile == null || !tile.hasWorldObj() || tile.isInvalid())
+		return isViableNode(pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	/**
+	 * Runs one of the node checks, memoizing the result when the location lies in the box around the pointer.
+	 * @param check - VIABLE, INNER, AIR or FRAME
+	 * @return the result of the check
+	 */
+	private boolean getCached(int check, int x, int y, int z)
+	{
+		int index = cacheIndex(x, y, z);
+
+		if(index >= 0 && (nodeCache[index] & check) != 0)
 		{
-			return false;
+			return (nodeCache[index] & (check << 1)) != 0;
 		}
 
-		if(tile instanceof IStructuralMultiblock)
+		boolean result;
+
+		switch(check)
 		{
-			if(((IStructuralMultiblock)tile).canInterface(pointer))
-			{
-				return true;
-			}
+			case VIABLE:
+				result = computeViableNode(x, y, z);
+				break;
+			case INNER:
+				result = isValidInnerNode(x, y, z);
+				break;
+			case AIR:
+				result = isAir(x, y, z);
+				break;
+			default:
+				result = isValidFrame(x, y, z);
+				break;
 		}
 
-		if(MultiblockManager.areEqual(tile, pointer))
+		if(index >= 0)
 		{
-			return true;
+			nodeCache[index] |= check | (result ? check << 1 : 0);
 		}
 
-		return false;
+		return result;
+	}
+
+	private int cacheIndex(int x, int y, int z)
+	{
+		if(nodeCache == null)
+		{
+			nodeCache = new byte[CACHE_LENGTH*CACHE_LENGTH*CACHE_LENGTH];
+			cacheX = pointer.getPos().getX()-CACHE_RADIUS;
+			cacheY = pointer.getPos().getY()-CACHE_RADIUS;
+			cacheZ = pointer.getPos().getZ()-CACHE_RADIUS;
+		}
+
+		int dx = x-cacheX, dy = y-cacheY, dz = z-cacheZ;
+
+		if(dx < 0 || dy < 0 || dz < 0 || dx >= CACHE_LENGTH || dy >= CACHE_LENGTH || dz >= CACHE_LENGTH)
+		{
+			return -1;
+		}
+
+		return (dy*CACHE_LENGTH + dz)*CACHE_LENGTH + dx;
 	}
 
 	/**
@@ -365,7 +426,9 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 
 	/**
 	 * Whether or not the block at the specified location is considered a frame on the multiblock structure.
-	 * @param obj - location to check
+	 * @param x - x coordinate
+	 * @param y - y coordinate
+	 * @param z - z coordinate
 	 * @param xmin - minimum x value
 	 * @param xmax - maximum x value
 	 * @param ymin - minimum y value
@@ -374,33 +437,33 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 	 * @param zmax - maximum z value
 	 * @return
 	 */
-	private boolean isFrame(Coord4D obj, int xmin, int xmax, int ymin, int ymax, int zmin, int zmax)
+	private boolean isFrame(int x, int y, int z, int xmin, int xmax, int ymin, int ymax, int zmin, int zmax)
 	{
-		if(obj.xCoord == xmin && obj.yCoord == ymin)
+		if(x == xmin && y == ymin)
 			return true;
-		if(obj.xCoord == xmax && obj.yCoord == ymin)
+		if(x == xmax && y == ymin)
 			return true;
-		if(obj.xCoord == xmin && obj.yCoord == ymax)
+		if(x == xmin && y == ymax)
 			return true;
-		if(obj.xCoord == xmax && obj.yCoord == ymax)
+		if(x == xmax && y == ymax)
 			return true;
 
-		if(obj.xCoord == xmin && obj.zCoord == zmin)
+		if(x == xmin && z == zmin)
 			return true;
-		if(obj.xCoord == xmax && obj.zCoord == zmin)
+		if(x == xmax && z == zmin)
 			return true;
-		if(obj.xCoord == xmin && obj.zCoord == zmax)
+		if(x == xmin && z == zmax)
 			return true;
-		if(obj.xCoord == xmax && obj.zCoord == zmax)
+		if(x == xmax && z == zmax)
 			return true;
 
-		if(obj.yCoord == ymin && obj.zCoord == zmin)
+		if(y == ymin && z == zmin)
 			return true;
-		if(obj.yCoord == ymax && obj.zCoord == zmin)
+		if(y == ymax && z == zmin)
 			return true;
-		if(obj.yCoord == ymin && obj.zCoord == zmax)
+		if(y == ymin && z == zmax)
 			return true;
-		if(obj.yCoord == ymax && obj.zCoord == zmax)
+		if(y == ymax && z == zmax)
 			return true;
 
 		return false;
@@ -461,12 +524,36 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 		}
 	}
 
+	/**
+	 * Starts from the current structure's minimum corner when the pointer already has one, so a structure that is
+	 * still intact is found by the first frame walk instead of after walking every other corner.
+	 */
+	private Coord4D getStartCoord()
+	{
+		Coord4D minLocation = pointer.structure != null ? pointer.structure.minLocation : null;
+
+		if(minLocation != null && minLocation.dimensionId == pointer.getWorld().provider.getDimension() && isViableNode(minLocation.xCoord, minLocation.yCoord, minLocation.zCoord))
+		{
+			return minLocation;
+		}
+
+		return Coord4D.get(pointer);
+	}
+
 	/**
 	 * Runs the protocol and updates all nodes that make a part of the multiblock.
 	 */
 	public void doUpdate()
 	{
-		loopThrough(Coord4D.get(pointer));
+		loopThrough(getStartCoord());
+
+		//The old corner may no longer be connected to the pointer, e.g. after part of the structure was blown up
+		if(structureFound == null && !iteratedNodes.contains(Coord4D.get(pointer)))
+		{
+			iteratedNodes.clear();
+			innerNodes.clear();
+			loopThrough(Coord4D.get(pointer));
+		}
 		
 		if(structureFound != null)
 		{
@@ -1,6 +1,11 @@
 package mekanism.common.multipart;
 
+import io.netty.buffer.ByteBuf;
+
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
@@ -34,6 +39,11 @@ public class MultipartTransporter extends MultipartTransmitter<IInventory, Inven
 
 	public Set<TransporterStack> needsSync = new HashSet<>();
 
+	/** Stack changes not yet sent to clients, written out by InventoryNetwork's stack sync. */
+	private Set<TransporterStack> addedStacks = new LinkedHashSet<>();
+	private Set<TransporterStack> movedStacks = new LinkedHashSet<>();
+	private List<Integer> removedStacks = new ArrayList<>();
+
 	public MultipartTransporter(PartLogisticalTransporter multiPart)
 	{
 		super(multiPart);
@@ -124,7 +134,8 @@ public class MultipartTransporter extends MultipartTransmitter<IInventory, Inven
 											continue;
 										}
 										else {
-											needsSync.add(stack);
+											//The item changed, so send the whole stack again
+											addedStacks.add(stack);
 											stack.itemStack = rejected;
 
 											prevSet = next;
@@ -202,19 +213,26 @@ public class MultipartTransporter extends MultipartTransmitter<IInventory, Inven
 
 			for(TransporterStack stack : remove)
 			{
-				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getPart().getSyncPacket(stack, true)), new Range4D(coord()));
 				transit.remove(stack);
+				addedStacks.remove(stack);
+				movedStacks.remove(stack);
+				removedStacks.add(stack.syncId);
 				MekanismUtils.saveChunk(getPart());
 			}
 
 			for(TransporterStack stack : needsSync)
 			{
-				if(transit.contains(stack))
+				if(transit.contains(stack) && !addedStacks.contains(stack))
 				{
-					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getPart().getSyncPacket(stack, false)), new Range4D(coord()));
+					movedStacks.add(stack);
 				}
 			}
 
+			if(!remove.isEmpty() || !needsSync.isEmpty())
+			{
+				syncStacks();
+			}
+
 			needsSync.clear();
 		}
 	}
@@ -286,8 +304,7 @@ public class MultipartTransporter extends MultipartTransmitter<IInventory, Inven
 
 			if(doEmit)
 			{
-				transit.add(stack);
-				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getPart().getSyncPacket(stack, false)), new Range4D(coord()));
+				addStack(stack);
 				MekanismUtils.saveChunk(getPart());
 			}
 
@@ -321,8 +338,7 @@ public class MultipartTransporter extends MultipartTransmitter<IInventory, Inven
 
 			if(doEmit)
 			{
-				transit.add(stack);
-				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getPart().getSyncPacket(stack, false)), new Range4D(coord()));
+				addStack(stack);
 				MekanismUtils.saveChunk(getPart());
 			}
 
@@ -336,11 +352,141 @@ public class MultipartTransporter extends MultipartTransmitter<IInventory, Inven
 	public void entityEntering(TransporterStack stack, int progress)
 	{
 		stack.progress = progress;
-		transit.add(stack);
-		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getPart().getSyncPacket(stack, false)), new Range4D(coord()));
+		addStack(stack);
 		MekanismUtils.saveChunk(getPart());
 	}
 
+	private void addStack(TransporterStack stack)
+	{
+		transit.add(stack);
+		addedStacks.add(stack);
+		syncStacks();
+	}
+
+	/**
+	 * Queues this transporter's stacks to be sent to clients along with the rest of its network's changes for the tick.
+	 */
+	private void syncStacks()
+	{
+		if(getTransmitterNetwork() != null)
+		{
+			getTransmitterNetwork().markStacksChanged(this);
+		}
+		else {
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getPart().getNetworkedData(new ArrayList<Object>())), new Range4D(coord()));
+			clearStackChanges();
+		}
+	}
+
+	/**
+	 * Writes the stacks that were removed, added or moved since the last call, and forgets them.
+	 */
+	public void writeStackChanges(ArrayList<Object> data)
+	{
+		data.add(removedStacks.size());
+
+		for(int syncId : removedStacks)
+		{
+			data.add(syncId);
+		}
+
+		data.add(addedStacks.size());
+
+		for(TransporterStack stack : addedStacks)
+		{
+			stack.write(this, data);
+		}
+
+		data.add(movedStacks.size());
+
+		for(TransporterStack stack : movedStacks)
+		{
+			data.add(stack.syncId);
+			stack.writeMovement(this, data);
+		}
+
+		clearStackChanges();
+	}
+
+	private void clearStackChanges()
+	{
+		addedStacks.clear();
+		movedStacks.clear();
+		removedStacks.clear();
+	}
+
+	/**
+	 * Applies the changes written by writeStackChanges() to the stacks in transit. Stacks are matched by sync id, so
+	 * changes to stacks this client doesn't have are ignored.
+	 */
+	public void readStackChanges(ByteBuf dataStream)
+	{
+		int removed = dataStream.readInt();
+
+		for(int i = 0; i < removed; i++)
+		{
+			TransporterStack stack = getStack(dataStream.readInt());
+
+			if(stack != null)
+			{
+				transit.remove(stack);
+			}
+		}
+
+		int added = dataStream.readInt();
+
+		for(int i = 0; i < added; i++)
+		{
+			TransporterStack stack = TransporterStack.readFromPacket(dataStream);
+			TransporterStack prev = getStack(stack.syncId);
+
+			if(prev != null)
+			{
+				transit.remove(prev);
+			}
+
+			if(stack.progress == 0)
+			{
+				stack.progress = 5;
+			}
+
+			transit.add(stack);
+		}
+
+		int moved = dataStream.readInt();
+
+		for(int i = 0; i < moved; i++)
+		{
+			TransporterStack stack = getStack(dataStream.readInt());
+
+			//Still has to be read past if the stack isn't here
+			if(stack == null)
+			{
+				stack = new TransporterStack();
+			}
+
+			stack.readMovement(dataStream);
+
+			if(stack.progress == 0)
+			{
+				stack.progress = 5;
+			}
+		}
+	}
+
+	private TransporterStack getStack(int syncId)
+	{
+		for(TransporterStack stack : transit)
+		{
+			if(stack.syncId == syncId)
+			{
+				return stack;
+			}
+		}
+
+		return null;
+	}
+
 	@Override
 	public EnumColor getColor()
 	{
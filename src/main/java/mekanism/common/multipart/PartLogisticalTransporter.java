@@ -19,7 +19,6 @@ import mekanism.common.Tier.TransporterTier;
 import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.transporter.InvStack;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
@@ -82,9 +81,9 @@ public class PartLogisticalTransporter extends PartTransmitter<IInventory, Inven
 	{
 		super.onWorldSeparate();
 		
-		if(!getWorld().isRemote)
+		if(!getWorld().isRemote && getTransmitter().getTransmitterNetwork() != null)
 		{
-			PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+			getTransmitter().getTransmitterNetwork().pathCache.onChanged(new Coord4D(getPos(), getWorld()));
 		}
 	}
 	
@@ -165,14 +164,6 @@ public class PartLogisticalTransporter extends PartTransmitter<IInventory, Inven
 		}
 	}
 
-	@Override
-	public void onWorldJoin()
-	{
-		super.onWorldJoin();
-
-		PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
-	}
-
 	@Override
 	public InventoryNetwork createNewNetwork()
 	{
@@ -222,26 +213,6 @@ public class PartLogisticalTransporter extends PartTransmitter<IInventory, Inven
 					getTransmitter().transit.add(TransporterStack.readFromPacket(dataStream));
 				}
 			}
-			else if(type == 1)
-			{
-				boolean kill = dataStream.readBoolean();
-				int index = dataStream.readInt();
-	
-				if(kill)
-				{
-					getTransmitter().transit.remove(index);
-				}
-				else {
-					TransporterStack stack = TransporterStack.readFromPacket(dataStream);
-	
-					if(stack.progress == 0)
-					{
-						stack.progress = 5;
-					}
-	
-					getTransmitter().transit.replace(index, stack);
-				}
-			}
 		}
 	}
 
@@ -270,22 +241,6 @@ public class PartLogisticalTransporter extends PartTransmitter<IInventory, Inven
 		return data;
 	}
 
-	public ArrayList<Object> getSyncPacket(TransporterStack stack, boolean kill)
-	{
-		ArrayList<Object> data = new ArrayList<Object>();
-
-		data.add(1);
-		data.add(kill);
-		data.add(getTransmitter().transit.indexOf(stack));
-
-		if(!kill)
-		{
-			stack.write(getTransmitter(), data);
-		}
-
-		return data;
-	}
-
 	@Override
 	public void readFromNBT(NBTTagCompound nbtTags)
 	{
@@ -345,7 +300,12 @@ public class PartLogisticalTransporter extends PartTransmitter<IInventory, Inven
 	{
 		TransporterUtils.incrementColor(getTransmitter());
 		onPartChanged(this);
-		PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+		
+		if(getTransmitter().getTransmitterNetwork() != null)
+		{
+			getTransmitter().getTransmitterNetwork().pathCache.onChanged(new Coord4D(getPos(), getWorld()));
+		}
+		
 		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(new Coord4D(getPos(), getWorld()), getNetworkedData(new ArrayList())), new Range4D(new Coord4D(getPos(), getWorld())));
 		player.addChatMessage(new TextComponentString(EnumColor.DARK_BLUE + "[Mekanism]" + EnumColor.GREY + " " + LangUtils.localize("tooltip.configurator.toggleColor") + ": " + (getTransmitter().getColor() != null ? getTransmitter().getColor().getColoredName() : EnumColor.BLACK + LangUtils.localize("gui.none"))));
 
@@ -0,0 +1,71 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import mekanism.api.Coord4D;
+import mekanism.common.Mekanism;
+import mekanism.common.network.PacketTileEntity.TileEntityMessage;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+
+/**
+ * Sends one kind of GUI data to the players that have a tile's GUI open. The data is only sent when it differs from
+ * what was sent last, and at most once per interval. Players that just opened the GUI get it straight away.
+ */
+public class ContainerSync
+{
+	/** Unchanged data is still sent this often, in case a client changed its copy on its own. */
+	private static final int RESEND_TICKS = 100;
+
+	private byte[] lastPayload;
+	private long lastSent;
+	private long lastChecked;
+
+	private Set<EntityPlayer> synced = new HashSet<EntityPlayer>();
+
+	/**
+	 * Checks whether the data should be built and compared this tick, so tiles can skip building it otherwise.
+	 */
+	public boolean isDue(long time, Set<EntityPlayer> players, int interval)
+	{
+		if(players.isEmpty())
+		{
+			synced.clear();
+			return false;
+		}
+
+		return time-lastChecked >= interval || !synced.containsAll(players);
+	}
+
+	public void send(Coord4D coord, Set<EntityPlayer> players, ArrayList<Object> data, long time)
+	{
+		TileEntityMessage message = new TileEntityMessage(coord, data);
+		ByteBuf encoded = message.getEncodedParameters();
+		byte[] payload = new byte[encoded.readableBytes()];
+		encoded.getBytes(encoded.readerIndex(), payload);
+
+		boolean changed = !Arrays.equals(payload, lastPayload) || time-lastSent >= RESEND_TICKS;
+
+		for(EntityPlayer player : players)
+		{
+			if(changed || !synced.contains(player))
+			{
+				Mekanism.packetHandler.sendTo(message, (EntityPlayerMP)player);
+			}
+		}
+
+		synced = new HashSet<EntityPlayer>(players);
+		lastChecked = time;
+
+		if(changed)
+		{
+			lastPayload = payload;
+			lastSent = time;
+		}
+	}
+}
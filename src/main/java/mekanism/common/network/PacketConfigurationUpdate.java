@@ -102,6 +102,8 @@ public class PacketConfigurationUpdate implements IMessageHandler<ConfigurationU
 					{
 						config.getEjector().setStrictInput(!config.getEjector().hasStrictInput());
 					}
+					
+					((TileEntityBasicBlock)config).wake();
 		
 					for(EntityPlayer p : ((TileEntityBasicBlock)config).playersUsing)
 					{
@@ -58,16 +58,7 @@ public class PacketPortableTeleporter implements IMessageHandler<PortableTelepor
 							break;
 						case SET_FREQ:
 							FrequencyManager manager1 = getManager(message.frequency.isPublic() ? null : player.getName(), world);
-							Frequency toUse = null;
-							
-							for(Frequency freq : manager1.getFrequencies())
-							{
-								if(freq.name.equals(message.frequency.name))
-								{
-									toUse = freq;
-									break;
-								}
-							}
+							Frequency toUse = manager1.getFrequency(message.frequency.name);
 							
 							if(toUse == null)
 							{
@@ -91,16 +82,7 @@ public class PacketPortableTeleporter implements IMessageHandler<PortableTelepor
 							break;
 						case TELEPORT:
 							FrequencyManager manager2 = getManager(message.frequency.isPublic() ? null : player.getName(), world);
-							Frequency found = null;
-							
-							for(Frequency freq : manager2.getFrequencies())
-							{
-								if(message.frequency.name.equals(freq.name))
-								{
-									found = freq;
-									break;
-								}
-							}
+							Frequency found = manager2.getFrequency(message.frequency.name);
 							
 							if(found == null)
 							{
@@ -169,23 +151,7 @@ public class PacketPortableTeleporter implements IMessageHandler<PortableTelepor
 		if(given != null)
 		{
 			FrequencyManager manager = given.isPublic() ? getManager(null, world) : getManager(player.getName(), world);
-			boolean found = false;
-			
-			for(Frequency iterFreq : manager.getFrequencies())
-			{
-				if(given.equals(iterFreq))
-				{
-					given = iterFreq;
-					found = true;
-					
-					break;
-				}
-			}
-			
-			if(!found)
-			{
-				given = null;
-			}
+			given = manager.getFrequency(given);
 		}
 		
 		if(given != null)
@@ -1,14 +1,18 @@
 package mekanism.common.network;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 import java.util.ArrayList;
 
 import mekanism.api.Coord4D;
+import mekanism.api.MekanismConfig.general;
 import mekanism.api.util.CapabilityUtils;
+import mekanism.common.Mekanism;
 import mekanism.common.PacketHandler;
 import mekanism.common.base.ITileNetwork;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.network.PacketDataRequest.DataRequestMessage;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.server.MinecraftServer;
@@ -40,9 +44,24 @@ public class PacketTileEntity implements IMessageHandler<TileEntityMessage, IMes
 				if(CapabilityUtils.hasCapability(tileEntity, Capabilities.TILE_NETWORK_CAPABILITY, null))
 				{
 					ITileNetwork network = CapabilityUtils.getCapability(tileEntity, Capabilities.TILE_NETWORK_CAPABILITY, null);
+					ByteBuf data = message.storedBuffer;
+					
+					if(message.syncType != TileEntityMessage.PLAIN)
+					{
+						data = TileNetworkSync.receive(tileEntity, message);
+						
+						if(data == null)
+						{
+							//Our baseline doesn't match the delta, ask for a fresh snapshot
+							message.storedBuffer.release();
+							Mekanism.packetHandler.sendToServer(new DataRequestMessage(message.coord4D));
+							
+							return;
+						}
+					}
 					
 					try {
-						network.handlePacketData(message.storedBuffer);
+						network.handlePacketData(data);
 					} catch(Exception e) {
 						e.printStackTrace();
 					}
@@ -57,11 +76,25 @@ public class PacketTileEntity implements IMessageHandler<TileEntityMessage, IMes
 	
 	public static class TileEntityMessage implements IMessage
 	{
+		/** Data sent without delta tracking, such as client to server messages and replies to a single player. */
+		public static final byte PLAIN = 0;
+		/** A full snapshot the receiver keeps as its baseline for later deltas. */
+		public static final byte SNAPSHOT = 1;
+		/** Changes against the receiver's baseline, see TileNetworkSync. */
+		public static final byte DELTA = 2;
+		
 		public Coord4D coord4D;
 	
 		public ArrayList<Object> parameters;
 		
+		public byte syncType = PLAIN;
+		public int version;
+		public int baseVersion;
+		
 		public ByteBuf storedBuffer = null;
+
+		/** The parameters as encoded for the first recipient, copied as-is for every other one. */
+		private ByteBuf encodedParameters = null;
 		
 		public TileEntityMessage() {}
 	
@@ -70,6 +103,29 @@ public class PacketTileEntity implements IMessageHandler<TileEntityMessage, IMes
 			coord4D = coord;
 			parameters = params;
 		}
+		
+		public TileEntityMessage(Coord4D coord, byte type, int newVersion, int base, ByteBuf encoded)
+		{
+			coord4D = coord;
+			syncType = type;
+			version = newVersion;
+			baseVersion = base;
+			encodedParameters = encoded;
+		}
+		
+		/**
+		 * @return the encoded parameters; the buffer's reader index must be left untouched
+		 */
+		public synchronized ByteBuf getEncodedParameters()
+		{
+			if(encodedParameters == null)
+			{
+				encodedParameters = Unpooled.buffer();
+				PacketHandler.encode(new Object[] {parameters}, encodedParameters);
+			}
+			
+			return encodedParameters;
+		}
 	
 		@Override
 		public void toBytes(ByteBuf dataStream)
@@ -78,19 +134,43 @@ public class PacketTileEntity implements IMessageHandler<TileEntityMessage, IMes
 			
 			MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
 			
-			if(server != null)
+			if(server != null && general.logPackets)
 			{
 				World world = server.worldServerForDimension(coord4D.dimensionId);
 				PacketHandler.log("Sending TileEntity packet from coordinate " + coord4D + " (" + coord4D.getTileEntity(world) + ")");
 			}
 			
-			PacketHandler.encode(new Object[] {parameters}, dataStream);
+			dataStream.writeByte(syncType);
+			
+			if(syncType != PLAIN)
+			{
+				dataStream.writeInt(version);
+			}
+			
+			if(syncType == DELTA)
+			{
+				dataStream.writeInt(baseVersion);
+			}
+			
+			ByteBuf encoded = getEncodedParameters();
+			dataStream.writeBytes(encoded, encoded.readerIndex(), encoded.readableBytes());
 		}
 	
 		@Override
 		public void fromBytes(ByteBuf dataStream)
 		{
 			coord4D = Coord4D.read(dataStream);
+			syncType = dataStream.readByte();
+			
+			if(syncType != PLAIN)
+			{
+				version = dataStream.readInt();
+			}
+			
+			if(syncType == DELTA)
+			{
+				baseVersion = dataStream.readInt();
+			}
 			
 			storedBuffer = dataStream.copy();
 		}
@@ -19,8 +19,10 @@ import mekanism.api.util.CapabilityUtils;
 import mekanism.common.EnergyNetwork;
 import mekanism.common.FluidNetwork;
 import mekanism.common.PacketHandler;
+import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.base.EnergyAcceptorWrapper;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.multipart.MultipartTransporter;
 import mekanism.common.network.PacketTransmitterUpdate.TransmitterUpdateMessage;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.tileentity.TileEntity;
@@ -68,6 +70,30 @@ public class PacketTransmitterUpdate implements IMessageHandler<TransmitterUpdat
 					}
 				}
 				
+				else if(message.packetType == PacketType.STACKS)
+				{
+					while(message.storedBuffer.isReadable())
+					{
+						Coord4D coord = Coord4D.read(message.storedBuffer);
+						ByteBuf data = message.storedBuffer.readSlice(message.storedBuffer.readInt());
+						TileEntity tileEntity = coord.getTileEntity(player.worldObj);
+						
+						if(CapabilityUtils.hasCapability(tileEntity, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null))
+						{
+							ILogisticalTransporter transporter = CapabilityUtils.getCapability(tileEntity, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null);
+							
+							if(transporter instanceof MultipartTransporter)
+							{
+								((MultipartTransporter)transporter).readStackChanges(data);
+							}
+						}
+					}
+					
+					message.storedBuffer.release();
+					
+					return;
+				}
+				
 				if(client.opaqueTransmitters || message.coord4D == null || player == null)
 				{
 					return;
@@ -160,6 +186,8 @@ public class PacketTransmitterUpdate implements IMessageHandler<TransmitterUpdat
 		public Collection<IGridTransmitter> transmittersAdded;
 		public Collection<Coord4D> transmitterCoords;
 		
+		public ByteBuf storedBuffer;
+		
 		public TransmitterUpdateMessage() {}
 	
 		public TransmitterUpdateMessage(PacketType type, Coord4D coord, Object... data)
@@ -184,6 +212,9 @@ public class PacketTransmitterUpdate implements IMessageHandler<TransmitterUpdat
 					fluidStack = (FluidStack)data[0];
 					didFluidTransfer = (Boolean)data[1];
 					break;
+				case STACKS:
+					storedBuffer = (ByteBuf)data[0];
+					break;
 				default:
 					break;
 			}
@@ -233,6 +264,10 @@ public class PacketTransmitterUpdate implements IMessageHandler<TransmitterUpdat
 					
 					dataStream.writeBoolean(didFluidTransfer);
 					
+					break;
+				case STACKS:
+					dataStream.writeBytes(storedBuffer, storedBuffer.readerIndex(), storedBuffer.readableBytes());
+					
 					break;
 				default:
 					break;
@@ -291,6 +326,10 @@ public class PacketTransmitterUpdate implements IMessageHandler<TransmitterUpdat
 					fluidStack = new FluidStack(fluidType, amount);
 				}
 			}
+			else if(packetType == PacketType.STACKS)
+			{
+				storedBuffer = dataStream.copy();
+			}
 		}
 	}
 	
@@ -299,6 +338,7 @@ public class PacketTransmitterUpdate implements IMessageHandler<TransmitterUpdat
 		UPDATE,
 		ENERGY,
 		GAS,
-		FLUID
+		FLUID,
+		STACKS
 	}
 }
\ No newline at end of file
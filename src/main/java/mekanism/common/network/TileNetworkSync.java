@@ -0,0 +1,263 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import mekanism.common.Mekanism;
+import mekanism.common.network.PacketTileEntity.TileEntityMessage;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.tileentity.TileEntity;
+
+/**
+ * Delta compression for tile entity data broadcast to nearby players. The server remembers the last payload it sent
+ * for each tile and which players received it. Those players get only the changed byte runs the next time, while
+ * players new to the tile get a full snapshot. Clients keep the last payload per tile as a baseline and rebuild the
+ * full payload from each delta, so ITileNetwork.handlePacketData() is unaware of the compression.
+ */
+public final class TileNetworkSync
+{
+	/** Unchanged gaps shorter than this are sent as part of the surrounding changed run. */
+	private static final int MIN_GAP = 4;
+
+	private static Map<TileEntity, ServerState> serverStates = new WeakHashMap<TileEntity, ServerState>();
+	private static Map<TileEntity, ClientBaseline> clientBaselines = new WeakHashMap<TileEntity, ClientBaseline>();
+
+	private static int nextVersion = 1;
+
+	/**
+	 * Sends a tile's data to the given players, as a delta to those that received the previous payload and as a
+	 * snapshot to everyone else.
+	 */
+	public static void sendToReceivers(TileEntity tile, TileEntityMessage message, List<EntityPlayerMP> receivers)
+	{
+		ServerState state = serverStates.get(tile);
+
+		if(state == null)
+		{
+			state = new ServerState();
+			serverStates.put(tile, state);
+		}
+
+		ByteBuf encoded = message.getEncodedParameters();
+		byte[] payload = new byte[encoded.readableBytes()];
+		encoded.getBytes(encoded.readerIndex(), payload);
+
+		int version = nextVersion++;
+		TileEntityMessage snapshot = new TileEntityMessage(message.coord4D, TileEntityMessage.SNAPSHOT, version, 0, encoded);
+		TileEntityMessage delta = null;
+
+		if(state.payload != null)
+		{
+			ByteBuf deltaBuf = writeDelta(state.payload, payload);
+
+			if(deltaBuf.readableBytes() < payload.length)
+			{
+				delta = new TileEntityMessage(message.coord4D, TileEntityMessage.DELTA, version, state.version, deltaBuf);
+			}
+		}
+
+		Set<EntityPlayerMP> watchers = new HashSet<EntityPlayerMP>();
+
+		for(EntityPlayerMP player : receivers)
+		{
+			Mekanism.packetHandler.sendTo(delta != null && state.watchers.contains(player) ? delta : snapshot, player);
+			watchers.add(player);
+		}
+
+		state.payload = payload;
+		state.version = version;
+		state.watchers = watchers;
+	}
+
+	/**
+	 * Makes the player receive a full snapshot the next time the tile's data is broadcast.
+	 */
+	public static void forgetWatcher(TileEntity tile, EntityPlayerMP player)
+	{
+		ServerState state = serverStates.get(tile);
+
+		if(state != null)
+		{
+			state.watchers.remove(player);
+		}
+	}
+
+	/**
+	 * Resolves a snapshot or delta received on the client into the tile's full payload.
+	 * @return the payload to handle, or null if the delta doesn't apply to this tile's baseline
+	 */
+	public static ByteBuf receive(TileEntity tile, TileEntityMessage message)
+	{
+		ByteBuf data = message.storedBuffer;
+
+		if(message.syncType == TileEntityMessage.SNAPSHOT)
+		{
+			byte[] payload = new byte[data.readableBytes()];
+			data.getBytes(data.readerIndex(), payload);
+			clientBaselines.put(tile, new ClientBaseline(message.version, payload));
+
+			return data;
+		}
+
+		ClientBaseline baseline = clientBaselines.get(tile);
+
+		if(baseline == null || baseline.version != message.baseVersion)
+		{
+			clientBaselines.remove(tile);
+			return null;
+		}
+
+		byte[] payload = readDelta(baseline.payload, data);
+
+		if(payload == null)
+		{
+			clientBaselines.remove(tile);
+			return null;
+		}
+
+		clientBaselines.put(tile, new ClientBaseline(message.version, payload));
+
+		return Unpooled.wrappedBuffer(payload);
+	}
+
+	/**
+	 * Writes the new payload's length, then each changed run as the number of unchanged bytes before it, its length
+	 * and its bytes. Bytes after the last run are unchanged.
+	 */
+	private static ByteBuf writeDelta(byte[] old, byte[] payload)
+	{
+		ByteBuf out = Unpooled.buffer();
+		writeVarInt(out, payload.length);
+
+		int previous = 0;
+		int i = 0;
+
+		while(i < payload.length)
+		{
+			if(!changed(old, payload, i))
+			{
+				i++;
+				continue;
+			}
+
+			int runEnd = i+1;
+			int gap = 0;
+
+			while(runEnd+gap < payload.length && gap < MIN_GAP)
+			{
+				if(changed(old, payload, runEnd+gap))
+				{
+					runEnd += gap+1;
+					gap = 0;
+				}
+				else {
+					gap++;
+				}
+			}
+
+			writeVarInt(out, i-previous);
+			writeVarInt(out, runEnd-i);
+			out.writeBytes(payload, i, runEnd-i);
+
+			previous = runEnd;
+			i = runEnd;
+		}
+
+		return out;
+	}
+
+	private static boolean changed(byte[] old, byte[] payload, int index)
+	{
+		return index >= old.length || old[index] != payload[index];
+	}
+
+	private static byte[] readDelta(byte[] old, ByteBuf data)
+	{
+		try {
+			byte[] payload = new byte[readVarInt(data)];
+			int pos = 0;
+
+			while(data.isReadable())
+			{
+				int skip = readVarInt(data);
+
+				if(pos+skip > old.length)
+				{
+					return null;
+				}
+
+				System.arraycopy(old, pos, payload, pos, skip);
+				pos += skip;
+
+				int run = readVarInt(data);
+				data.readBytes(payload, pos, run);
+				pos += run;
+			}
+
+			if(pos < payload.length)
+			{
+				if(payload.length > old.length)
+				{
+					return null;
+				}
+
+				System.arraycopy(old, pos, payload, pos, payload.length-pos);
+			}
+
+			return payload;
+		} catch(IndexOutOfBoundsException e) {
+			return null;
+		}
+	}
+
+	private static void writeVarInt(ByteBuf out, int value)
+	{
+		while((value & ~0x7F) != 0)
+		{
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(ByteBuf data)
+	{
+		int value = 0;
+		int shift = 0;
+		byte b;
+
+		do {
+			b = data.readByte();
+			value |= (b & 0x7F) << shift;
+			shift += 7;
+		} while((b & 0x80) != 0);
+
+		return value;
+	}
+
+	private static class ServerState
+	{
+		public byte[] payload;
+		public int version;
+		public Set<EntityPlayerMP> watchers = new HashSet<EntityPlayerMP>();
+	}
+
+	private static class ClientBaseline
+	{
+		public final int version;
+		public final byte[] payload;
+
+		public ClientBaseline(int newVersion, byte[] data)
+		{
+			version = newVersion;
+			payload = data;
+		}
+	}
+}
@@ -1,9 +1,11 @@
 package mekanism.common.recipe;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import mekanism.api.gas.Gas;
 import mekanism.api.gas.GasStack;
@@ -49,6 +51,7 @@ import mekanism.common.recipe.outputs.GasOutput;
 import mekanism.common.recipe.outputs.ItemStackOutput;
 import mekanism.common.recipe.outputs.MachineOutput;
 import mekanism.common.recipe.outputs.PressurizedOutput;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.Fluid;
@@ -490,6 +493,21 @@ public final class RecipeHandler
 	{
 		if(itemstack != null)
 		{
+			Recipe recipeMap = getRecipeMap(recipes);
+
+			if(recipeMap != null)
+			{
+				for(MachineInput input : recipeMap.getItemInputs(itemstack.getItem()))
+				{
+					if(MachineInput.inputContains(itemstack, ((ItemStackInput)input).ingredient))
+					{
+						return true;
+					}
+				}
+
+				return false;
+			}
+
 			for(RECIPE recipe : recipes.values())
 			{
 				ItemStackInput required = recipe.getInput();
@@ -508,9 +526,9 @@ public final class RecipeHandler
 	{
 		if(stack != null)
 		{
-			for(PressurizedInput key : (Set<PressurizedInput>)Recipe.PRESSURIZED_REACTION_CHAMBER.get().keySet())
+			for(MachineInput input : Recipe.PRESSURIZED_REACTION_CHAMBER.getItemInputs(stack.getItem()))
 			{
-				if(key.containsType(stack))
+				if(((PressurizedInput)input).containsType(stack))
 				{
 					return true;
 				}
@@ -520,6 +538,24 @@ public final class RecipeHandler
 		return false;
 	}
 
+	/**
+	 * Finds the Recipe whose map is the given one, so its item index can be used.
+	 * @param recipes - Map of recipes
+	 * @return the Recipe owning the map, or null if the map isn't one of them
+	 */
+	private static Recipe getRecipeMap(Map<?, ?> recipes)
+	{
+		for(Recipe recipe : Recipe.values())
+		{
+			if(recipe.get() == recipes)
+			{
+				return recipe;
+			}
+		}
+
+		return null;
+	}
+
 	public static <RECIPE extends MachineRecipe<ItemStackInput, ?, RECIPE>> RECIPE getRecipeTryWildcard(ItemStack stack, Map<ItemStackInput, RECIPE> recipes)
 	{
 		return getRecipeTryWildcard(new ItemStackInput(stack), recipes);
@@ -559,8 +595,13 @@ public final class RecipeHandler
 		THERMAL_EVAPORATION_PLANT("ThermalEvaporationPlant", FluidInput.class, FluidOutput.class, ThermalEvaporationRecipe.class),
 		SOLAR_NEUTRON_ACTIVATOR(MachineType.SOLAR_NEUTRON_ACTIVATOR.machineName, GasInput.class, GasOutput.class, SolarNeutronRecipe.class);
 
-		private HashMap recipes;
+		private RecipeMap recipes;
 		private String recipeName;
+
+		/** Inputs of the item-based recipes in the map, by item. */
+		private Map<Item, List<MachineInput>> itemIndex;
+		private int indexedSize;
+		private int indexedModifications;
 		
 		private Class<? extends MachineInput> inputClass;
 		private Class<? extends MachineOutput> outputClass;
@@ -574,17 +615,137 @@ public final class RecipeHandler
 			outputClass = output;
 			recipeClass = recipe;
 			
-			recipes = new HashMap<INPUT, RECIPE>();
+			recipes = new RecipeMap<INPUT, RECIPE>();
 		}
 
 		public <RECIPE extends MachineRecipe<?, ?, RECIPE>> void put(RECIPE recipe)
 		{
-			recipes.put(recipe.getInput(), recipe);
+			boolean indexed = isIndexed();
+
+			if(recipes.put(recipe.getInput(), recipe) == null && indexed)
+			{
+				index(itemIndex, recipe.getInput());
+			}
+
+			indexedSize = recipes.size();
+			indexedModifications = recipes.modifications;
 		}
 
 		public <RECIPE extends MachineRecipe<?, ?, RECIPE>> void remove(RECIPE recipe)
 		{
-			recipes.remove(recipe.getInput());
+			boolean indexed = isIndexed();
+
+			if(recipes.remove(recipe.getInput()) != null && indexed)
+			{
+				ItemStack stack = getItemInput(recipe.getInput());
+
+				if(stack != null && itemIndex.containsKey(stack.getItem()))
+				{
+					itemIndex.get(stack.getItem()).remove(recipe.getInput());
+				}
+			}
+
+			indexedSize = recipes.size();
+			indexedModifications = recipes.modifications;
+		}
+
+		/**
+		 * Drops the item index, so it is rebuilt on next use. Only needed after changing the map returned by get() in
+		 * a way RecipeMap can't see, e.g. through its views.
+		 */
+		public void invalidateIndex()
+		{
+			itemIndex = null;
+		}
+
+		/**
+		 * Whether the item index is built and the map hasn't been changed directly since, dropping the index if it has.
+		 */
+		private boolean isIndexed()
+		{
+			if(itemIndex != null && !isCurrent())
+			{
+				itemIndex = null;
+			}
+
+			return itemIndex != null;
+		}
+
+		private boolean isCurrent()
+		{
+			return indexedModifications == recipes.modifications && indexedSize == recipes.size();
+		}
+
+		/**
+		 * Gets the inputs of this map's item-based recipes whose item is the given one. The index is built on first
+		 * use, kept up to date by put() and remove(), and rebuilt if the map is changed directly.
+		 * @param item - item to look up
+		 * @return the matching inputs, which still need to be checked against the stack's damage, NBT and size
+		 */
+		public List<MachineInput> getItemInputs(Item item)
+		{
+			Map<Item, List<MachineInput>> index = itemIndex;
+
+			if(index == null || !isCurrent())
+			{
+				//Built locally and published once complete, as the client thread can look up recipes too
+				index = new HashMap<Item, List<MachineInput>>();
+
+				for(Object input : recipes.keySet())
+				{
+					index(index, (MachineInput)input);
+				}
+
+				indexedSize = recipes.size();
+				indexedModifications = recipes.modifications;
+				itemIndex = index;
+			}
+
+			List<MachineInput> inputs = index.get(item);
+
+			return inputs != null ? inputs : Collections.<MachineInput>emptyList();
+		}
+
+		private static void index(Map<Item, List<MachineInput>> index, MachineInput input)
+		{
+			ItemStack stack = getItemInput(input);
+
+			if(stack == null)
+			{
+				return;
+			}
+
+			List<MachineInput> inputs = index.get(stack.getItem());
+
+			if(inputs == null)
+			{
+				inputs = new ArrayList<MachineInput>();
+				index.put(stack.getItem(), inputs);
+			}
+
+			inputs.add(input);
+		}
+
+		private static ItemStack getItemInput(MachineInput input)
+		{
+			if(input instanceof ItemStackInput)
+			{
+				return ((ItemStackInput)input).ingredient;
+			}
+			else if(input instanceof AdvancedMachineInput)
+			{
+				return ((AdvancedMachineInput)input).itemStack;
+			}
+			else if(input instanceof InfusionInput)
+			{
+				return ((InfusionInput)input).inputStack;
+			}
+			else if(input instanceof PressurizedInput)
+			{
+				return ((PressurizedInput)input).getSolid();
+			}
+
+			return null;
 		}
 		
 		public String getRecipeName()
@@ -703,4 +864,48 @@ public final class RecipeHandler
 			return recipes;
 		}
 	}
+
+	/**
+	 * Recipe map counting the changes made to it directly, so the item index notices a recipe being swapped for
+	 * another even when the map's size stays the same. Removals through the map's views are only caught by size.
+	 */
+	private static class RecipeMap<K, V> extends HashMap<K, V>
+	{
+		public int modifications;
+
+		@Override
+		public V put(K key, V value)
+		{
+			modifications++;
+			return super.put(key, value);
+		}
+
+		@Override
+		public void putAll(Map<? extends K, ? extends V> map)
+		{
+			modifications++;
+			super.putAll(map);
+		}
+
+		@Override
+		public V putIfAbsent(K key, V value)
+		{
+			modifications++;
+			return super.putIfAbsent(key, value);
+		}
+
+		@Override
+		public V remove(Object key)
+		{
+			modifications++;
+			return super.remove(key);
+		}
+
+		@Override
+		public void clear()
+		{
+			modifications++;
+			super.clear();
+		}
+	}
 }
@@ -8,9 +8,11 @@ import java.util.List;
 
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismConfig.general;
+import mekanism.api.MekanismConfig.machines;
 import mekanism.api.Range4D;
 import mekanism.common.Mekanism;
 import mekanism.common.base.IChunkLoadHandler;
+import mekanism.common.base.ISleepable;
 import mekanism.common.base.ITileComponent;
 import mekanism.common.base.ITileNetwork;
 import mekanism.common.block.states.BlockStateMachine;
@@ -19,13 +21,13 @@ import mekanism.common.capabilities.Capabilities;
 import mekanism.common.frequency.Frequency;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.frequency.IFrequencyHandler;
+import mekanism.common.network.ContainerSync;
 import mekanism.common.network.PacketDataRequest.DataRequestMessage;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -53,11 +55,28 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 
 	public boolean doAutoSync = true;
 
+	/** Sends getNetworkedData() to the players using this block when doAutoSync is set. */
+	private ContainerSync guiSync = new ContainerSync();
+
+	/** Minimum ticks between GUI syncs for this block's type, looked up when first needed. */
+	private int guiSyncInterval;
+
 	public List<ITileComponent> components = new ArrayList<ITileComponent>();
 
+	/** Whether this ISleepable tile is skipping its updates until woken. */
+	public boolean sleeping;
+
 	@Override
 	public void update()
 	{
+		if(sleeping)
+		{
+			ticker++;
+			redstoneLastTick = redstone;
+
+			return;
+		}
+
 		if(!worldObj.isRemote && general.destroyDisabledBlocks)
 		{
 			MachineType type = BlockStateMachine.MachineType.get(getBlockType(), getBlockMetadata());
@@ -79,13 +98,13 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 
 		if(!worldObj.isRemote)
 		{
-			if(doAutoSync && playersUsing.size() > 0)
+			if(doAutoSync && isGuiSyncDue(guiSync))
 			{
-				for(EntityPlayer player : playersUsing)
-				{
-					Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), (EntityPlayerMP)player);
-				}
+				sendGuiSync(guiSync, getNetworkedData(new ArrayList<Object>()));
 			}
+
+			//Only after the first update, which some tiles use to initialize
+			sleeping = this instanceof ISleepable && ticker > 0 && ((ISleepable)this).canSleep();
 		}
 
 		ticker++;
@@ -106,6 +125,45 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 		markDirty();
 	}
 
+	@Override
+	public void markDirty()
+	{
+		super.markDirty();
+
+		wake();
+	}
+
+	/**
+	 * Checks whether the given GUI data channel should send this tick; only build the data if it should.
+	 */
+	protected boolean isGuiSyncDue(ContainerSync sync)
+	{
+		//Nothing to look up while no one is using this block
+		if(!playersUsing.isEmpty() && guiSyncInterval == 0)
+		{
+			MachineType type = MachineType.get(getBlockType(), getBlockMetadata());
+			guiSyncInterval = type != null ? machines.getGuiSyncInterval(type.machineName) : general.guiSyncInterval;
+		}
+
+		return sync.isDue(worldObj.getTotalWorldTime(), playersUsing, guiSyncInterval);
+	}
+
+	/**
+	 * Sends GUI data to the players using this block, skipping those that already have the same data.
+	 */
+	protected void sendGuiSync(ContainerSync sync, ArrayList<Object> data)
+	{
+		sync.send(Coord4D.get(this), playersUsing, data, worldObj.getTotalWorldTime());
+	}
+
+	/**
+	 * Makes this tile update again if it was sleeping.
+	 */
+	public void wake()
+	{
+		sleeping = false;
+	}
+
 	public void open(EntityPlayer player)
 	{
 		playersUsing.add(player);
@@ -275,6 +333,7 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 		if(redstone != power)
 		{
 			redstone = power;
+			wake();
 			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new ArrayList<Object>())), new Range4D(Coord4D.get(this)));
 		
 			onPowerChange();
@@ -285,6 +285,7 @@ public abstract class TileEntityBasicMachine<INPUT extends MachineInput<INPUT>,
 	public void setControlType(RedstoneControl type)
 	{
 		controlType = type;
+		wake();
 		MekanismUtils.saveChunk(this);
 	}
 
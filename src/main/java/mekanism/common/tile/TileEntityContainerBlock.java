@@ -116,6 +116,9 @@ public abstract class TileEntityContainerBlock extends TileEntityBasicBlock impl
 				{
 					setInventorySlotContents(slotID, null);
 				}
+				else {
+					wake();
+				}
 
 				return tempStack;
 			}
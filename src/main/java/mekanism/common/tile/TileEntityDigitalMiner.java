@@ -3,7 +3,6 @@ package mekanism.common.tile;
 import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -13,7 +12,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismConfig.usage;
 import mekanism.api.Range4D;
@@ -32,12 +30,14 @@ import mekanism.common.chunkloading.IChunkLoader;
 import mekanism.common.content.miner.MItemStackFilter;
 import mekanism.common.content.miner.MOreDictFilter;
 import mekanism.common.content.miner.MinerFilter;
+import mekanism.common.content.miner.MinerQueue;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
 import mekanism.common.content.transporter.InvStack;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.inventory.container.ContainerFilter;
 import mekanism.common.inventory.container.ContainerNull;
+import mekanism.common.network.ContainerSync;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
 import mekanism.common.tile.component.TileComponentChunkLoader;
 import mekanism.common.tile.component.TileComponentSecurity;
@@ -76,8 +76,11 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 {
 	public static int[] EJECT_INV;
 
-	public Map<Chunk3D, BitSet> oresToMine = new HashMap<Chunk3D, BitSet>();
-	public Map<Integer, MinerFilter> replaceMap = new HashMap<Integer, MinerFilter>();
+	public MinerQueue oreQueue = new MinerQueue();
+
+	/** Whether each block state seen while mining matches a filter; cleared whenever memoFilters goes stale. */
+	private Map<IBlockState, Boolean> filterMemo = new HashMap<IBlockState, Boolean>();
+	private List<MinerFilter> memoFilters = new ArrayList<MinerFilter>();
 
 	public HashList<MinerFilter> filters = new HashList<MinerFilter>();
 
@@ -120,6 +123,9 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
 	public boolean initCalc = false;
 
+	/** Set when the mining queue was restored from NBT, so it doesn't need to be searched again. */
+	private boolean queueLoaded = false;
+
 	public int numPowering;
 	
 	public boolean clientRendering = false;
@@ -131,6 +137,9 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 	public TileComponentSecurity securityComponent = new TileComponentSecurity(this);
 	public TileComponentChunkLoader chunkLoaderComponent = new TileComponentChunkLoader(this);
 
+	/** Sends getSmallPacket() to the players using this block. */
+	private ContainerSync smallSync = new ContainerSync();
+
 	public TileEntityDigitalMiner()
 	{
 		super("DigitalMiner", BlockStateMachine.MachineType.DIGITAL_MINER.baseEnergy);
@@ -160,7 +169,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 		{
 			if(!initCalc)
 			{
-				if(searcher.state == State.FINISHED)
+				if(searcher.state == State.FINISHED && !queueLoaded)
 				{
 					boolean prevRunning = running;
 					
@@ -175,7 +184,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
 			ChargeUtils.discharge(27, this);
 
-			if(MekanismUtils.canFunction(this) && running && getEnergy() >= getPerTick() && searcher.state == State.FINISHED && oresToMine.size() > 0)
+			if(MekanismUtils.canFunction(this) && running && getEnergy() >= getPerTick() && searcher.state == State.FINISHED && !oreQueue.isEmpty())
 			{
 				setActive(true);
 
@@ -188,112 +197,53 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
 				if(delay == 0)
 				{
-					Set<Chunk3D> toRemove = new HashSet<Chunk3D>();
 					boolean did = false;
-					
-					for(Chunk3D chunk : oresToMine.keySet())
+
+					for(int group = oreQueue.getFirstGroup(); group < oreQueue.getGroupCount() && !did; group++)
 					{
-						BitSet set = oresToMine.get(chunk);
-						int next = 0;
-	
-						while(true)
+						while(oreQueue.hasNext(group))
 						{
-							int index = set.nextSetBit(next);
+							int index = oreQueue.peek(group);
 							Coord4D coord = getCoordFromIndex(index);
-	
-							if(index == -1)
-							{
-								toRemove.add(chunk);
-								break;
-							}
-	
+
 							if(!coord.exists(worldObj))
 							{
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									toRemove.add(chunk);
-								}
-								
-								next = index + 1;
+								oreQueue.poll(group);
 								continue;
 							}
 
 							IBlockState state = coord.getBlockState(worldObj);
 							Block block = state.getBlock();
-							int meta = block.getMetaFromState(state);
-	
+
 							if(block == null || coord.isAirBlock(worldObj))
 							{
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									toRemove.add(chunk);
-								}
-								
-								next = index + 1;
+								oreQueue.poll(group);
 								continue;
 							}
-	
-							boolean hasFilter = false;
-	
-							for(MinerFilter filter : filters)
-							{
-								if(filter.canFilter(new ItemStack(block, 1, meta)))
-								{
-									hasFilter = true;
-									break;
-								}
-							}
-	
-							if(inverse == hasFilter)
+
+							if(inverse == hasFilter(state))
 							{
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									toRemove.add(chunk);
-									break;
-								}
-								
-								next = index + 1;
+								oreQueue.poll(group);
 								continue;
 							}
-	
+
 							List<ItemStack> drops = MinerUtils.getDrops(worldObj, coord, silkTouch);
-	
-							if(canInsert(drops) && setReplace(coord, index))
+
+							if(canInsert(drops) && setReplace(coord, oreQueue.peekFilter(group)))
 							{
 								did = true;
 								add(drops);
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									toRemove.add(chunk);
-								}
-	
+								oreQueue.poll(group);
+
 								worldObj.playEvent(null, 2001, coord.getPos(), Block.getStateId(state));
-	
+
 								missingStack = null;
 							}
-	
-							break;
-						}
-						
-						if(did)
-						{
+
 							break;
 						}
 					}
 					
-					for(Chunk3D chunk : toRemove)
-					{
-						oresToMine.remove(chunk);
-					}
-					
 					delay = getDelay();
 				}
 			}
@@ -329,12 +279,9 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 				delayTicks--;
 			}
 
-			if(playersUsing.size() > 0)
+			if(isGuiSyncDue(smallSync))
 			{
-				for(EntityPlayer player : playersUsing)
-				{
-					Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getSmallPacket(new ArrayList<Object>())), (EntityPlayerMP)player);
-				}
+				sendGuiSync(smallSync, getSmallPacket(new ArrayList<Object>()));
 			}
 
 			prevEnergy = getEnergy();
@@ -367,7 +314,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 	/*
 	 * returns false if unsuccessful
 	 */
-	public boolean setReplace(Coord4D obj, int index)
+	public boolean setReplace(Coord4D obj, MinerFilter filter)
 	{
 		IBlockState state = obj.getBlockState(worldObj);
 		Block block = state.getBlock();
@@ -378,7 +325,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 		
 		if(!event.isCanceled())
 		{
-			ItemStack stack = getReplace(index);
+			ItemStack stack = getReplace(filter);
 			 
 			if(stack != null)
 			{
@@ -394,8 +341,6 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 				return true;
 			}
 			else {
-				MinerFilter filter = replaceMap.get(index);
-				
 				if(filter == null || (filter.replaceStack == null || !filter.requireStack))
 				{
 					worldObj.setBlockToAir(obj.getPos());
@@ -412,10 +357,8 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 		return false;
 	}
 
-	public ItemStack getReplace(int index)
+	public ItemStack getReplace(MinerFilter filter)
 	{
-		MinerFilter filter = replaceMap.get(index);
-		
 		if(filter == null || filter.replaceStack == null)
 		{
 			return null;
@@ -611,8 +554,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 	{
 		searcher = new ThreadMinerSearch(this);
 		running = false;
-		oresToMine.clear();
-		replaceMap.clear();
+		oreQueue = new MinerQueue();
 		missingStack = null;
 
 		MekanismUtils.saveChunk(this);
@@ -631,16 +573,66 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 		return false;
 	}
 	
-	public int getSize()
+	/**
+	 * Whether a block state matches any filter, memoized per state until the filter list changes.
+	 */
+	private boolean hasFilter(IBlockState state)
 	{
-		int size = 0;
-		
-		for(Chunk3D chunk : oresToMine.keySet())
+		if(!isMemoCurrent())
 		{
-			size += oresToMine.get(chunk).cardinality();
+			filterMemo.clear();
+			memoFilters.clear();
+
+			for(MinerFilter filter : filters)
+			{
+				memoFilters.add(filter);
+			}
 		}
-		
-		return size;
+
+		Boolean memo = filterMemo.get(state);
+
+		if(memo == null)
+		{
+			Block block = state.getBlock();
+			ItemStack stack = new ItemStack(block, 1, block.getMetaFromState(state));
+			memo = false;
+
+			for(MinerFilter filter : filters)
+			{
+				if(filter.canFilter(stack))
+				{
+					memo = true;
+					break;
+				}
+			}
+
+			filterMemo.put(state, memo);
+		}
+
+		return memo;
+	}
+
+	private boolean isMemoCurrent()
+	{
+		if(memoFilters.size() != filters.size())
+		{
+			return false;
+		}
+
+		for(int i = 0; i < memoFilters.size(); i++)
+		{
+			if(memoFilters.get(i) != filters.get(i))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+	
+	public int getSize()
+	{
+		return oreQueue.size();
 	}
 
 	@Override
@@ -682,6 +674,12 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 				filters.add(MinerFilter.readFromNBT(tagList.getCompoundTagAt(i)));
 			}
 		}
+
+		if(searcher.state == State.FINISHED && nbtTags.hasKey("queue"))
+		{
+			oreQueue = MinerQueue.read(nbtTags, filters);
+			queueLoaded = true;
+		}
 	}
 
 	@Override
@@ -719,6 +717,11 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 		{
 			nbtTags.setTag("filters", filterTags);
 		}
+
+		if(searcher.state == State.FINISHED)
+		{
+			oreQueue.write(nbtTags, filters);
+		}
 		
 		return nbtTags;
 	}
@@ -126,6 +126,11 @@ public abstract class TileEntityElectricBlock extends TileEntityContainerBlock i
 	@Override
 	public void setEnergy(double energy)
 	{
+		if(energy > electricityStored)
+		{
+			wake();
+		}
+
 		electricityStored = Math.max(Math.min(energy, getMaxEnergy()), 0);
 		MekanismUtils.saveChunk(this);
 	}
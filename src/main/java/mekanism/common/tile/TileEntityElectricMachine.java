@@ -8,6 +8,7 @@ import mekanism.common.SideData;
 import mekanism.common.Tier.BaseTier;
 import mekanism.common.Upgrade;
 import mekanism.common.base.IFactory.RecipeType;
+import mekanism.common.base.ISleepable;
 import mekanism.common.base.ITierUpgradeable;
 import mekanism.common.recipe.RecipeHandler;
 import mekanism.common.recipe.inputs.ItemStackInput;
@@ -23,7 +24,7 @@ import mekanism.common.util.MekanismUtils.ResourceType;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumFacing;
 
-public abstract class TileEntityElectricMachine<RECIPE extends BasicMachineRecipe<RECIPE>> extends TileEntityBasicMachine<ItemStackInput, ItemStackOutput, RECIPE> implements ITierUpgradeable
+public abstract class TileEntityElectricMachine<RECIPE extends BasicMachineRecipe<RECIPE>> extends TileEntityBasicMachine<ItemStackInput, ItemStackOutput, RECIPE> implements ITierUpgradeable, ISleepable
 {
 	/**
 	 * A simple electrical machine. This has 3 slots - the input slot (0), the energy slot (1),
@@ -166,6 +167,18 @@ public abstract class TileEntityElectricMachine<RECIPE extends BasicMachineRecip
 		}
 	}
 
+	@Override
+	public boolean canSleep()
+	{
+		//Energy and upgrade slots
+		if(isActive || updateDelay > 0 || !playersUsing.isEmpty() || inventory[1] != null || inventory[3] != null)
+		{
+			return false;
+		}
+
+		return inventory[2] == null || !configComponent.isEjecting(TransmissionType.ITEM);
+	}
+
 	@Override
 	public boolean isItemValidForSlot(int slotID, ItemStack itemstack)
 	{
@@ -3,8 +3,11 @@ package mekanism.common.tile;
 import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
@@ -22,6 +25,7 @@ import mekanism.api.gas.ITubeConnection;
 import mekanism.api.infuse.InfuseObject;
 import mekanism.api.infuse.InfuseRegistry;
 import mekanism.api.transmitters.TransmissionType;
+import mekanism.api.util.ItemInfo;
 import mekanism.api.util.StackUtils;
 import mekanism.client.HolidayManager;
 import mekanism.common.InfuseStorage;
@@ -36,6 +40,7 @@ import mekanism.common.Upgrade;
 import mekanism.common.base.IFactory.RecipeType;
 import mekanism.common.base.IRedstoneControl;
 import mekanism.common.base.ISideConfiguration;
+import mekanism.common.base.ISleepable;
 import mekanism.common.base.ITierUpgradeable;
 import mekanism.common.base.IUpgradeTile;
 import mekanism.common.base.SoundWrapper;
@@ -48,6 +53,7 @@ import mekanism.common.recipe.RecipeHandler;
 import mekanism.common.recipe.inputs.InfusionInput;
 import mekanism.common.recipe.machines.AdvancedMachineRecipe;
 import mekanism.common.recipe.machines.BasicMachineRecipe;
+import mekanism.common.recipe.machines.MachineRecipe;
 import mekanism.common.recipe.machines.MetallurgicInfuserRecipe;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.tile.component.TileComponentConfig;
@@ -70,7 +76,7 @@ import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-public class TileEntityFactory extends TileEntityNoisyElectricBlock implements IComputerIntegration, ISideConfiguration, IUpgradeTile, IRedstoneControl, IGasHandler, ITubeConnection, ISpecialConfigData, ISecurityTile, ITierUpgradeable
+public class TileEntityFactory extends TileEntityNoisyElectricBlock implements IComputerIntegration, ISideConfiguration, IUpgradeTile, IRedstoneControl, IGasHandler, ITubeConnection, ISpecialConfigData, ISecurityTile, ITierUpgradeable, ISleepable
 {
 	/** This Factory's tier. */
 	public FactoryTier tier;
@@ -126,6 +132,9 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 	public GasTank gasTank;
 
 	public boolean sorting;
+
+	/** Whether the inventory has changed since the input slots were last sorted. */
+	private boolean sortNeeded = true;
 	
 	public boolean upgraded;
 	
@@ -142,6 +151,9 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 	public TileComponentConfig configComponent;
 	public TileComponentSecurity securityComponent = new TileComponentSecurity(this);
 
+	/** The recipe last looked up for each input slot, indexed by slot. */
+	private RecipeCache[] recipeCache;
+
 	public TileEntityFactory()
 	{
 		this(FactoryTier.BASIC, BlockStateMachine.MachineType.BASIC_FACTORY);
@@ -177,6 +189,7 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 		tier = type;
 		inventory = new ItemStack[5+type.processes*2];
 		progress = new int[type.processes];
+		recipeCache = new RecipeCache[inventory.length];
 		isActive = false;
 
 		gasTank = new GasTank(TileEntityAdvancedElectricMachine.MAX_GAS*tier.processes);
@@ -423,82 +436,142 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 		return configComponent.getSidesForData(TransmissionType.ENERGY, facing, 1);
 	}
 
+	/**
+	 * Evens out the input slots in one pass. Stacks of the same item, damage and NBT form a group, empty slots are
+	 * handed one at a time to the group with the most items per slot, and each group's items are then spread as
+	 * evenly as possible over its slots. Only runs after the inventory has changed.
+	 */
 	public void sortInventory()
 	{
-		if(sorting)
+		if(!sorting || !sortNeeded)
 		{
-			boolean didOp = false;
+			return;
+		}
 
-			int[] inputSlots = null;
+		Map<ItemInfo, List<List<Integer>>> itemGroups = new HashMap<ItemInfo, List<List<Integer>>>();
+		List<List<Integer>> groups = new ArrayList<List<Integer>>();
+		List<Integer> emptySlots = new ArrayList<Integer>();
 
-			List<InvID> invStacks = new ArrayList<InvID>();
+		for(int process = 0; process < tier.processes; process++)
+		{
+			int slot = getInputSlot(process);
+			ItemStack stack = inventory[slot];
 
-			if(tier == FactoryTier.BASIC)
+			if(stack == null)
 			{
-				inputSlots = new int[] {5, 6, 7};
+				emptySlots.add(slot);
+				continue;
 			}
-			else if(tier == FactoryTier.ADVANCED)
+
+			ItemInfo info = ItemInfo.get(stack);
+			List<List<Integer>> variants = itemGroups.get(info);
+			List<Integer> group = null;
+
+			if(variants == null)
 			{
-				inputSlots = new int[] {5, 6, 7, 8, 9};
+				variants = new ArrayList<List<Integer>>();
+				itemGroups.put(info, variants);
 			}
-			else if(tier == FactoryTier.ELITE)
+
+			//Stacks of the same item with different NBT are never merged
+			for(List<Integer> variant : variants)
 			{
-				inputSlots = new int[] {5, 6, 7, 8, 9, 10, 11};
+				if(ItemStack.areItemStackTagsEqual(inventory[variant.get(0)], stack))
+				{
+					group = variant;
+					break;
+				}
 			}
 
-			for(int id : inputSlots)
+			if(group == null)
 			{
-				invStacks.add(InvID.get(id, inventory));
+				group = new ArrayList<Integer>();
+				variants.add(group);
+				groups.add(group);
 			}
 
-			for(InvID invID1 : invStacks)
+			group.add(slot);
+		}
+
+		int[] totals = new int[groups.size()];
+
+		for(int i = 0; i < groups.size(); i++)
+		{
+			for(int slot : groups.get(i))
 			{
-				for(InvID invID2 : invStacks)
-				{
-					if(invID1.ID == invID2.ID || StackUtils.diffIgnoreNull(invID1.stack, invID2.stack) || Math.abs(invID1.size()-invID2.size()) < 2) continue;
+				totals[i] += inventory[slot].stackSize;
+			}
+		}
 
-					List<ItemStack> evened = StackUtils.even(inventory[invID1.ID], inventory[invID2.ID]);
-					inventory[invID1.ID] = evened.get(0);
-					inventory[invID2.ID] = evened.get(1);
+		for(int slot : emptySlots)
+		{
+			int best = -1;
 
-					didOp = true;
-					break;
-				}
+			for(int i = 0; i < groups.size(); i++)
+			{
+				int slots = groups.get(i).size();
 
-				if(didOp)
+				//Only groups that can still give every slot, including the new one, at least one item
+				if(totals[i] > slots && (best == -1 || totals[i]*groups.get(best).size() > totals[best]*slots))
 				{
-					markDirty();
-					break;
+					best = i;
 				}
 			}
-		}
-	}
 
-	public static class InvID
-	{
-		public ItemStack stack;
-		public int ID;
+			if(best == -1)
+			{
+				break;
+			}
 
-		public InvID(ItemStack s, int i)
-		{
-			stack = s;
-			ID = i;
+			groups.get(best).add(slot);
 		}
 
-		public int size()
-		{
-			return stack != null ? stack.stackSize : 0;
-		}
+		boolean changed = false;
 
-		public Item item()
+		for(int i = 0; i < groups.size(); i++)
 		{
-			return stack != null ? stack.getItem() : null;
+			List<Integer> group = groups.get(i);
+			Collections.sort(group);
+
+			ItemStack type = inventory[group.get(0)];
+			int each = totals[i]/group.size();
+			int remainder = totals[i]%group.size();
+
+			for(int j = 0; j < group.size(); j++)
+			{
+				int slot = group.get(j);
+				int size = each + (j < remainder ? 1 : 0);
+
+				if(inventory[slot] == null || inventory[slot].stackSize != size)
+				{
+					inventory[slot] = StackUtils.size(type, size);
+					changed = true;
+				}
+			}
 		}
 
-		public static InvID get(int id, ItemStack[] inv)
+		if(changed)
 		{
-			return new InvID(inv[id], id);
+			markDirty();
 		}
+
+		sortNeeded = false;
+	}
+
+	@Override
+	public void markDirty()
+	{
+		super.markDirty();
+
+		sortNeeded = true;
+	}
+
+	@Override
+	public ItemStack decrStackSize(int slotID, int amount)
+	{
+		sortNeeded = true;
+
+		return super.decrStackSize(slotID, amount);
 	}
 
 	public double getSecondaryEnergyPerTick(RecipeType type)
@@ -673,6 +746,34 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 		return recipeTicks*i / RECIPE_TICKS_REQUIRED;
 	}
 
+	@Override
+	public boolean canSleep()
+	{
+		if(isActive || updateDelay > 0 || !playersUsing.isEmpty())
+		{
+			return false;
+		}
+
+		//Upgrade, energy, recipe type and extra slots
+		if(inventory[0] != null || inventory[1] != null || inventory[2] != null || inventory[4] != null)
+		{
+			return false;
+		}
+
+		if(configComponent.isEjecting(TransmissionType.ITEM))
+		{
+			for(int process = 0; process < tier.processes; process++)
+			{
+				if(inventory[getOutputSlot(process)] != null)
+				{
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
 	public boolean canOperate(int inputSlot, int outputSlot)
 	{
 		if(inventory[inputSlot] == null)
@@ -680,31 +781,24 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 			return false;
 		}
 
-		if(recipeType.usesFuel())
-		{
-			AdvancedMachineRecipe<?> recipe = recipeType.getRecipe(inventory[inputSlot], gasTank.getGasType());
+		MachineRecipe<?, ?, ?> recipe = getSlotRecipe(inputSlot);
 
-			return recipe != null && recipe.canOperate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
+		if(recipe == null)
+		{
+			return false;
+		}
 
+		if(recipeType.usesFuel())
+		{
+			return ((AdvancedMachineRecipe<?>)recipe).canOperate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
 		}
 		
 		if(recipeType == RecipeType.INFUSING)
 		{
-			InfusionInput input = new InfusionInput(infuseStored, inventory[inputSlot]);
-			MetallurgicInfuserRecipe recipe = RecipeHandler.getMetallurgicInfuserRecipe(input);
-			
-			if(recipe == null)
-			{
-				return false;
-			}
-			
-			return recipe.canOperate(inventory, inputSlot, outputSlot, infuseStored);
+			return ((MetallurgicInfuserRecipe)recipe).canOperate(inventory, inputSlot, outputSlot, infuseStored);
 		}
 
-		BasicMachineRecipe<?> recipe = recipeType.getRecipe(inventory[inputSlot]);
-
-		return recipe != null && recipe.canOperate(inventory, inputSlot, outputSlot);
-
+		return ((BasicMachineRecipe<?>)recipe).canOperate(inventory, inputSlot, outputSlot);
 	}
 
 	public void operate(int inputSlot, int outputSlot)
@@ -714,29 +808,67 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 			return;
 		}
 
+		MachineRecipe<?, ?, ?> recipe = getSlotRecipe(inputSlot);
+
 		if(recipeType.usesFuel())
 		{
-			AdvancedMachineRecipe<?> recipe = recipeType.getRecipe(inventory[inputSlot], gasTank.getGasType());
-
-			recipe.operate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
+			((AdvancedMachineRecipe<?>)recipe).operate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
 		}
 		else if(recipeType == RecipeType.INFUSING)
 		{
-			InfusionInput input = new InfusionInput(infuseStored, inventory[inputSlot]);
-			MetallurgicInfuserRecipe recipe = RecipeHandler.getMetallurgicInfuserRecipe(input);
-			
-			recipe.output(inventory, inputSlot, outputSlot, infuseStored);
+			((MetallurgicInfuserRecipe)recipe).output(inventory, inputSlot, outputSlot, infuseStored);
 		}
 		else {
-			BasicMachineRecipe<?> recipe = recipeType.getRecipe(inventory[inputSlot]);
-
-			recipe.operate(inventory, inputSlot, outputSlot);
+			((BasicMachineRecipe<?>)recipe).operate(inventory, inputSlot, outputSlot);
 		}
 
 		markDirty();
 		ejectorComponent.outputItems();
 	}
 
+	/**
+	 * Gets the recipe for an input slot's current contents. The recipe is only looked up again when the slot's item,
+	 * damage or NBT, the recipe type or its secondary input have changed since the previous call, so the lookup
+	 * and the recipe copy RecipeHandler makes don't happen every tick.
+	 * @param inputSlot - input slot, which must not be empty
+	 * @return the recipe, or null if there is none
+	 */
+	private MachineRecipe<?, ?, ?> getSlotRecipe(int inputSlot)
+	{
+		ItemStack stack = inventory[inputSlot];
+		Object secondary = recipeType.usesFuel() ? gasTank.getGasType() : (recipeType == RecipeType.INFUSING ? infuseStored.type : null);
+		RecipeCache cache = recipeCache[inputSlot];
+
+		if(cache == null)
+		{
+			cache = new RecipeCache();
+			recipeCache[inputSlot] = cache;
+		}
+
+		if(!cache.matches(recipeType, stack, secondary))
+		{
+			if(recipeType.usesFuel())
+			{
+				cache.recipe = recipeType.getRecipe(stack, gasTank.getGasType());
+			}
+			else if(recipeType == RecipeType.INFUSING)
+			{
+				cache.recipe = RecipeHandler.getMetallurgicInfuserRecipe(new InfusionInput(infuseStored, stack));
+			}
+			else {
+				cache.recipe = recipeType.getRecipe(stack);
+			}
+
+			cache.type = recipeType;
+			cache.item = stack.getItem();
+			cache.meta = stack.getItemDamage();
+			cache.tag = stack.getTagCompound();
+			cache.secondary = secondary;
+		}
+
+		return cache.recipe;
+	}
+
 	@Override
 	public void handlePacketData(ByteBuf dataStream)
 	{
@@ -747,6 +879,7 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 			if(type == 0)
 			{
 				sorting = !sorting;
+				sortNeeded = true;
 			}
 			else if(type == 1)
 			{
@@ -755,6 +888,8 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 				infuseStored.type = null;
 			}
 
+			wake();
+
 			return;
 		}
 
@@ -1077,6 +1212,7 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 	public void setControlType(RedstoneControl type)
 	{
 		controlType = type;
+		wake();
 		MekanismUtils.saveChunk(this);
 	}
 
@@ -1103,6 +1239,11 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 	{
 		if(canReceiveGas(side, stack.getGas()))
 		{
+			if(doTransfer)
+			{
+				wake();
+			}
+
 			return gasTank.receive(stack, doTransfer);
 		}
 
@@ -1199,6 +1340,7 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 	public void setConfigurationData(NBTTagCompound nbtTags) 
 	{
 		sorting = nbtTags.getBoolean("sorting");
+		sortNeeded = true;
 	}
 
 	@Override
@@ -1212,4 +1354,24 @@ public class TileEntityFactory extends TileEntityNoisyElectricBlock implements I
 	{
 		return securityComponent;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * A slot's recipe along with the input it was looked up for. NBT is compared by reference, as a stack's tag is
+	 * replaced rather than edited whenever the slot's contents change.
+	 */
+	private static class RecipeCache
+	{
+		public RecipeType type;
+		public Item item;
+		public int meta;
+		public NBTTagCompound tag;
+		public Object secondary;
+
+		public MachineRecipe<?, ?, ?> recipe;
+
+		public boolean matches(RecipeType recipeType, ItemStack stack, Object secondaryInput)
+		{
+			return type == recipeType && item == stack.getItem() && meta == stack.getItemDamage() && tag == stack.getTagCompound() && secondary == secondaryInput;
+		}
+	}
+}
@@ -4,12 +4,16 @@ import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 
+import mekanism.api.Coord4D;
 import mekanism.api.energy.IStrictEnergyStorage;
 import mekanism.common.Tier.InductionCellTier;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.matrix.SynchronizedMatrixData;
 import mekanism.common.util.LangUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 
@@ -18,9 +22,91 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
 	public InductionCellTier tier = InductionCellTier.BASIC;
 	
 	public double electricityStored;
+
+	/** The formed matrix this cell belongs to, which holds the authoritative energy value while it exists. */
+	public SynchronizedMatrixData matrix;
+
+	/** Largest distance from a cell to its matrix's casing, as matrices are at most 18 blocks across. */
+	private static final int MAX_CASING_DISTANCE = 17;
 	
 	@Override
-	public void onUpdate() {}
+	public void onUpdate()
+	{
+		//A cell that was unloaded while its matrix stayed formed rejoins it when loaded again
+		if(!worldObj.isRemote && ticker == 0 && matrix == null)
+		{
+			findMatrix();
+		}
+	}
+
+	/**
+	 * Looks along each axis for the casing of a formed matrix that still lists this cell, and links to that matrix.
+	 */
+	private void findMatrix()
+	{
+		Coord4D coord = Coord4D.get(this);
+
+		for(EnumFacing side : EnumFacing.VALUES)
+		{
+			for(int i = 1; i <= MAX_CASING_DISTANCE; i++)
+			{
+				Coord4D check = coord.offset(side, i);
+
+				//Don't load chunks just to look for the casing
+				if(!check.exists(worldObj))
+				{
+					break;
+				}
+
+				TileEntity tile = check.getTileEntity(worldObj);
+
+				if(tile instanceof TileEntityInductionCasing)
+				{
+					SynchronizedMatrixData structure = ((TileEntityInductionCasing)tile).structure;
+
+					if(structure != null && structure.cells.contains(coord))
+					{
+						structure.linkCell(this, worldObj);
+						return;
+					}
+
+					break;
+				}
+				else if(!(tile instanceof TileEntityInductionCell || tile instanceof TileEntityInductionProvider) && !check.isAirBlock(worldObj))
+				{
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Takes this cell out of its matrix with its current share of the energy, so a stale copy of this cell can't
+	 * be counted again when it comes back.
+	 */
+	private void leaveMatrix()
+	{
+		if(matrix != null && worldObj != null && !worldObj.isRemote)
+		{
+			matrix.unlinkCell(Coord4D.get(this), this, worldObj);
+		}
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		leaveMatrix();
+
+		super.onChunkUnload();
+	}
+
+	@Override
+	public void invalidate()
+	{
+		leaveMatrix();
+
+		super.invalidate();
+	}
 	
 	public String getName()
 	{
@@ -71,6 +157,11 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbtTags)
 	{
+		if(matrix != null && worldObj != null && !worldObj.isRemote)
+		{
+			matrix.pushEnergy(worldObj);
+		}
+
 		super.writeToNBT(nbtTags);
 
 		nbtTags.setInteger("tier", tier.ordinal());
@@ -82,13 +173,26 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
 	@Override
 	public double getEnergy() 
 	{
+		if(matrix != null && !worldObj.isRemote)
+		{
+			matrix.pushEnergy(worldObj);
+		}
+
 		return electricityStored;
 	}
 
 	@Override
 	public void setEnergy(double energy) 
 	{
-		electricityStored = Math.min(energy, getMaxEnergy());
+		double newEnergy = Math.min(energy, getMaxEnergy());
+
+		if(matrix != null && !worldObj.isRemote)
+		{
+			matrix.pushEnergy(worldObj);
+			matrix.setEnergy(worldObj, matrix.getEnergy() + newEnergy - electricityStored);
+		}
+
+		electricityStored = newEnergy;
 	}
 
 	@Override
@@ -4,6 +4,7 @@ import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
@@ -25,7 +26,9 @@ import mekanism.common.content.transporter.InvStack;
 import mekanism.common.content.transporter.StackSearcher;
 import mekanism.common.content.transporter.TItemStackFilter;
 import mekanism.common.content.transporter.TransporterFilter;
+import mekanism.common.content.transporter.TransporterFilterIndex;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.network.ContainerSync;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.tile.component.TileComponentSecurity;
@@ -34,7 +37,6 @@ import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.TransporterUtils;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -72,6 +74,11 @@ public class TileEntityLogisticalSorter extends TileEntityElectricBlock implemen
 	
 	public TileComponentSecurity securityComponent = new TileComponentSecurity(this);
 
+	/** Sends getGenericPacket() to the players using this block. */
+	private ContainerSync genericSync = new ContainerSync();
+
+	private TransporterFilterIndex filterIndex = new TransporterFilterIndex();
+
 	public TileEntityLogisticalSorter()
 	{
 		super("LogisticalSorter", BlockStateMachine.MachineType.LOGISTICAL_SORTER.baseEnergy);
@@ -103,42 +110,49 @@ public class TileEntityLogisticalSorter extends TileEntityElectricBlock implemen
 					IInventory inventory = InventoryUtils.checkChestInv((IInventory)back);
 
 					boolean sentItems = false;
-					int min = 0;
+
+					filterIndex.update(filters);
+					List<List<Integer>> candidates = filterIndex.getCandidateSlots(inventory, facing.getOpposite());
 
 					outer:
-					for(TransporterFilter filter : filters)
+					for(int i = 0; i < filterIndex.size(); i++)
 					{
-						inner:
-						for(StackSearcher search = new StackSearcher(inventory, facing.getOpposite()); search.i >= 0;)
+						TransporterFilter filter = filterIndex.get(i);
+						List<Integer> slots = candidates.get(i);
+
+						if(slots == null)
 						{
-							InvStack invStack = filter.getStackFromInventory(search);
+							continue;
+						}
 
-							if(invStack == null || invStack.getStack() == null)
-							{
-								break inner;
-							}
+						if(TransporterFilterIndex.isSizeMode(filter))
+						{
+							int min = ((TItemStackFilter)filter).min;
 
-							if(filter.canFilter(invStack.getStack()))
+							for(StackSearcher search = new StackSearcher(inventory, facing.getOpposite()); search.i >= 0;)
 							{
-								if(filter instanceof TItemStackFilter)
-								{
-									TItemStackFilter itemFilter = (TItemStackFilter)filter;
+								InvStack invStack = filter.getStackFromInventory(search);
 
-									if(itemFilter.sizeMode)
-									{
-										min = itemFilter.min;
-									}
+								if(invStack == null || invStack.getStack() == null)
+								{
+									break;
 								}
 
-								ItemStack used = emitItemToTransporter(front, invStack, filter.color, min);
-
-								if(used != null)
+								if(filter.canFilter(invStack.getStack()) && emitStack(front, inventory, invStack, filter.color, min))
 								{
-									invStack.use(used.stackSize);
-									inventory.markDirty();
-									setActive(true);
 									sentItems = true;
+									break outer;
+								}
+							}
+						}
+						else {
+							for(int slotID : slots)
+							{
+								InvStack invStack = new InvStack(inventory, slotID, inventory.getStackInSlot(slotID).copy());
 
+								if(emitStack(front, inventory, invStack, filter.color, 0))
+								{
+									sentItems = true;
 									break outer;
 								}
 							}
@@ -151,14 +165,7 @@ public class TileEntityLogisticalSorter extends TileEntityElectricBlock implemen
 						
 						if(invStack != null && invStack.getStack() != null)
 						{
-							ItemStack used = emitItemToTransporter(front, invStack, color, 0);
-							
-							if(used != null)
-							{
-								invStack.use(used.stackSize);
-								inventory.markDirty();
-								setActive(true);
-							}
+							emitStack(front, inventory, invStack, color, 0);
 						}
 					}
 
@@ -166,16 +173,33 @@ public class TileEntityLogisticalSorter extends TileEntityElectricBlock implemen
 				}
 			}
 
-			if(playersUsing.size() > 0)
+			if(isGuiSyncDue(genericSync))
 			{
-				for(EntityPlayer player : playersUsing)
-				{
-					Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getGenericPacket(new ArrayList())), (EntityPlayerMP)player);
-				}
+				sendGuiSync(genericSync, getGenericPacket(new ArrayList<Object>()));
 			}
 		}
 	}
 	
+	/**
+	 * Sends the stack out of the front and takes what was sent from the inventory behind.
+	 * @return if anything was sent
+	 */
+	private boolean emitStack(TileEntity front, IInventory inventory, InvStack invStack, EnumColor filterColor, int min)
+	{
+		ItemStack used = emitItemToTransporter(front, invStack, filterColor, min);
+
+		if(used != null)
+		{
+			invStack.use(used.stackSize);
+			inventory.markDirty();
+			setActive(true);
+
+			return true;
+		}
+
+		return false;
+	}
+
 	/*
 	 * Returns used
 	 */
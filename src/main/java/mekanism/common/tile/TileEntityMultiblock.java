@@ -174,6 +174,17 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
 		}
 	}
 	
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+
+		if(worldObj != null && !worldObj.isRemote)
+		{
+			getManager().invalidateLocation(this);
+		}
+	}
+	
 	protected abstract T getNewStructure();
 	
 	public abstract MultiblockCache<T> getNewCache();
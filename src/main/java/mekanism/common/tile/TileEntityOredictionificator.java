@@ -17,6 +17,7 @@ import mekanism.common.base.IRedstoneControl;
 import mekanism.common.base.ISustainedData;
 import mekanism.common.block.states.BlockStateMachine;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.network.ContainerSync;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.tile.component.TileComponentSecurity;
@@ -24,7 +25,6 @@ import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -48,6 +48,9 @@ public class TileEntityOredictionificator extends TileEntityContainerBlock imple
 	
 	public TileComponentSecurity securityComponent = new TileComponentSecurity(this);
 	
+	/** Sends getGenericPacket() to the players using this block. */
+	private ContainerSync genericSync = new ContainerSync();
+	
 	public TileEntityOredictionificator()
 	{
 		super(BlockStateMachine.MachineType.OREDICTIONIFICATOR.machineName);
@@ -61,12 +64,9 @@ public class TileEntityOredictionificator extends TileEntityContainerBlock imple
 	{
 		if(!worldObj.isRemote)
 		{
-			if(playersUsing.size() > 0)
+			if(isGuiSyncDue(genericSync))
 			{
-				for(EntityPlayer player : playersUsing)
-				{
-					Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getGenericPacket(new ArrayList())), (EntityPlayerMP)player);
-				}
+				sendGuiSync(genericSync, getGenericPacket(new ArrayList<Object>()));
 			}
 			
 			didProcess = false;
@@ -209,17 +209,16 @@ public class TileEntityQuantumEntangloporter extends TileEntityElectricBlock imp
 		FrequencyManager manager = getManager(new InventoryFrequency(name, null).setPublic(publicFreq));
 		manager.deactivate(Coord4D.get(this));
 		
-		for(Frequency freq : manager.getFrequencies())
+		Frequency found = manager.getFrequency(name);
+		
+		if(found != null)
 		{
-			if(freq.name.equals(name))
-			{
-				frequency = (InventoryFrequency)freq;
-				frequency.activeCoords.add(Coord4D.get(this));
-				
-				markDirty();
-				
-				return;
-			}
+			frequency = (InventoryFrequency)found;
+			manager.activate(Coord4D.get(this), frequency);
+			
+			markDirty();
+			
+			return;
 		}
 		
 		Frequency freq = new InventoryFrequency(name, getSecurity().getOwner()).setPublic(publicFreq);
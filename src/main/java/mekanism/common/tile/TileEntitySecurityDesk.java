@@ -125,15 +125,14 @@ public class TileEntitySecurityDesk extends TileEntityContainerBlock implements
 		FrequencyManager manager = Mekanism.securityFrequencies;
 		manager.deactivate(Coord4D.get(this));
 		
-		for(Frequency freq : manager.getFrequencies())
+		Frequency found = manager.getFrequency(SecurityFrequency.SECURITY, owner);
+		
+		if(found != null)
 		{
-			if(freq.owner.equals(owner))
-			{
-				frequency = (SecurityFrequency)freq;
-				frequency.activeCoords.add(Coord4D.get(this));
-				
-				return;
-			}
+			frequency = (SecurityFrequency)found;
+			manager.activate(Coord4D.get(this), frequency);
+			
+			return;
 		}
 		
 		Frequency freq = new SecurityFrequency(owner).setPublic(true);
@@ -180,15 +180,14 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 		FrequencyManager manager = getManager(new Frequency(name, null).setPublic(publicFreq));
 		manager.deactivate(Coord4D.get(this));
 		
-		for(Frequency freq : manager.getFrequencies())
+		Frequency found = manager.getFrequency(name);
+		
+		if(found != null)
 		{
-			if(freq.name.equals(name))
-			{
-				frequency = freq;
-				frequency.activeCoords.add(Coord4D.get(this));
-				
-				return;
-			}
+			frequency = found;
+			manager.activate(Coord4D.get(this), frequency);
+			
+			return;
 		}
 		
 		Frequency freq = new Frequency(name, getSecurity().getOwner()).setPublic(publicFreq);
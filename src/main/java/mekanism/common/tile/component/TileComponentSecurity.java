@@ -81,15 +81,14 @@ public class TileComponentSecurity implements ITileComponent
 		FrequencyManager manager = Mekanism.securityFrequencies;
 		manager.deactivate(Coord4D.get(tileEntity));
 		
-		for(Frequency freq : manager.getFrequencies())
+		Frequency found = manager.getFrequency(SecurityFrequency.SECURITY, owner);
+		
+		if(found != null)
 		{
-			if(freq.owner.equals(owner))
-			{
-				frequency = (SecurityFrequency)freq;
-				frequency.activeCoords.add(Coord4D.get(tileEntity));
-				
-				return;
-			}
+			frequency = (SecurityFrequency)found;
+			manager.activate(Coord4D.get(tileEntity), frequency);
+			
+			return;
 		}
 		
 		Frequency freq = new SecurityFrequency(owner).setPublic(true);
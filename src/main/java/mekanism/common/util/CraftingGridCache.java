@@ -0,0 +1,304 @@
+package mekanism.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mekanism.common.recipe.ShapedMekanismRecipe;
+import mekanism.common.recipe.ShapelessMekanismRecipe;
+import net.minecraft.inventory.InventoryCrafting;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.CraftingManager;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.ShapedRecipes;
+import net.minecraft.item.crafting.ShapelessRecipes;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+import net.minecraftforge.oredict.ShapedOreRecipe;
+import net.minecraftforge.oredict.ShapelessOreRecipe;
+
+/**
+ * Finds the crafting recipe matching a grid without going through the whole recipe list every time. Recipes are
+ * grouped by how many ingredients they take, so only those that can use the grid's number of stacks are tried, and
+ * the recipe found for a grid is remembered by the item, damage and NBT in each slot. Everything is rebuilt when
+ * invalidate() is called after changing the recipe list, or when the list is found to have changed some other way.
+ */
+public final class CraftingGridCache
+{
+	private static final int MAX_RESULTS = 4096;
+
+	/** How often in milliseconds the recipe list is compared with the indexed recipes, to catch changes made by others. */
+	private static final long VERIFY_INTERVAL = 1000;
+
+	private static List<IRecipe> indexedList;
+	private static IRecipe[] indexedRecipes;
+	private static long lastVerified;
+
+	/** Recipes in list order, by the number of ingredients they take. Recipes of unknown types are in every bucket. */
+	private static List<IRecipe>[] buckets;
+
+	/** The recipe found for each grid, or null if none matched. */
+	private static Map<GridKey, IRecipe> results = new HashMap<GridKey, IRecipe>();
+
+	/**
+	 * Gets the first recipe in the crafting manager's list matching the given grid.
+	 * @param inv - crafting grid
+	 * @param world - world the crafting happens in, may be null
+	 * @return the matching recipe, or null
+	 */
+	public static synchronized IRecipe getRecipe(InventoryCrafting inv, World world)
+	{
+		List<IRecipe> recipes = CraftingManager.getInstance().getRecipeList();
+
+		if(recipes != indexedList || recipes.size() != indexedRecipes.length || !isVerified(recipes))
+		{
+			rebuild(recipes);
+		}
+
+		GridKey key = new GridKey(inv);
+
+		if(results.containsKey(key))
+		{
+			IRecipe recipe = results.get(key);
+
+			if(recipe == null)
+			{
+				//A miss may have been answered by a recipe added since, so only trust it while the list is unchanged
+				if(isIndexed(recipes))
+				{
+					return null;
+				}
+
+				rebuild(recipes);
+			}
+			else if(recipe.matches(inv, world))
+			{
+				//Stack sizes aren't part of the key, so the recipe was checked against this grid first
+				return recipe;
+			}
+		}
+
+		IRecipe found = null;
+
+		for(IRecipe recipe : key.count < buckets.length ? buckets[key.count] : recipes)
+		{
+			if(recipe.matches(inv, world))
+			{
+				found = recipe;
+				break;
+			}
+		}
+
+		if(results.size() >= MAX_RESULTS)
+		{
+			results.clear();
+		}
+
+		results.put(key, found);
+
+		return found;
+	}
+
+	/**
+	 * Drops everything built from the recipe list. Call this after adding or removing crafting recipes.
+	 */
+	public static synchronized void invalidate()
+	{
+		indexedList = null;
+		indexedRecipes = null;
+		results.clear();
+	}
+
+	/**
+	 * Compares the recipe list with the indexed recipes once per VERIFY_INTERVAL, so recipes removed and added
+	 * again by other mods don't keep being served.
+	 * @return false if the list has changed
+	 */
+	private static boolean isVerified(List<IRecipe> recipes)
+	{
+		long time = System.currentTimeMillis();
+
+		if(time-lastVerified < VERIFY_INTERVAL)
+		{
+			return true;
+		}
+
+		lastVerified = time;
+
+		return isIndexed(recipes);
+	}
+
+	/**
+	 * @return whether the recipe list holds exactly the indexed recipes, in the same order
+	 */
+	private static boolean isIndexed(List<IRecipe> recipes)
+	{
+		if(recipes.size() != indexedRecipes.length)
+		{
+			return false;
+		}
+
+		for(int i = 0; i < indexedRecipes.length; i++)
+		{
+			if(recipes.get(i) != indexedRecipes[i])
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static void rebuild(List<IRecipe> recipes)
+	{
+		buckets = new List[10];
+
+		for(int i = 0; i < buckets.length; i++)
+		{
+			buckets[i] = new ArrayList<IRecipe>();
+		}
+
+		for(IRecipe recipe : recipes)
+		{
+			int count = getIngredientCount(recipe);
+
+			if(count >= 0 && count < buckets.length)
+			{
+				buckets[count].add(recipe);
+			}
+			else if(count < 0)
+			{
+				for(List<IRecipe> bucket : buckets)
+				{
+					bucket.add(recipe);
+				}
+			}
+		}
+
+		indexedList = recipes;
+		indexedRecipes = recipes.toArray(new IRecipe[recipes.size()]);
+		lastVerified = System.currentTimeMillis();
+		results.clear();
+	}
+
+	/**
+	 * Gets the exact number of non-empty slots a recipe needs, for the recipe types known to require every ingredient
+	 * and nothing else. Subclasses are excluded, as they may match differently.
+	 * @return the number of ingredients, or -1 if unknown
+	 */
+	private static int getIngredientCount(IRecipe recipe)
+	{
+		if(recipe.getClass() == ShapedRecipes.class)
+		{
+			return countNonNull(((ShapedRecipes)recipe).recipeItems);
+		}
+		else if(recipe.getClass() == ShapelessRecipes.class)
+		{
+			return ((ShapelessRecipes)recipe).recipeItems.size();
+		}
+		else if(recipe.getClass() == ShapedOreRecipe.class)
+		{
+			return countNonNull(((ShapedOreRecipe)recipe).getInput());
+		}
+		else if(recipe.getClass() == ShapelessOreRecipe.class)
+		{
+			return ((ShapelessOreRecipe)recipe).getInput().size();
+		}
+		else if(recipe.getClass() == ShapedMekanismRecipe.class)
+		{
+			return countNonNull(((ShapedMekanismRecipe)recipe).getInput());
+		}
+		else if(recipe.getClass() == ShapelessMekanismRecipe.class)
+		{
+			return ((ShapelessMekanismRecipe)recipe).getInput().size();
+		}
+
+		return -1;
+	}
+
+	private static int countNonNull(Object[] input)
+	{
+		int count = 0;
+
+		for(Object obj : input)
+		{
+			if(obj != null)
+			{
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * The item, damage and NBT in each slot of a grid, ignoring stack sizes.
+	 */
+	private static class GridKey
+	{
+		public final Item[] items;
+		public final int[] damage;
+		public final NBTTagCompound[] tags;
+		public final int width;
+		public final int count;
+
+		private final int hash;
+
+		public GridKey(InventoryCrafting inv)
+		{
+			int size = inv.getSizeInventory();
+			int found = 0;
+
+			items = new Item[size];
+			damage = new int[size];
+			tags = new NBTTagCompound[size];
+			width = inv.getWidth();
+
+			for(int i = 0; i < size; i++)
+			{
+				ItemStack stack = inv.getStackInSlot(i);
+
+				if(stack != null)
+				{
+					items[i] = stack.getItem();
+					damage[i] = stack.getItemDamage();
+					tags[i] = stack.hasTagCompound() ? stack.getTagCompound().copy() : null;
+					found++;
+				}
+			}
+
+			count = found;
+
+			int code = 31*width + Arrays.hashCode(damage);
+
+			for(Item item : items)
+			{
+				code = 31*code + System.identityHashCode(item);
+			}
+
+			hash = 31*code + Arrays.hashCode(tags);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if(!(obj instanceof GridKey))
+			{
+				return false;
+			}
+
+			GridKey other = (GridKey)obj;
+
+			return other.hash == hash && other.width == width && Arrays.equals(other.items, items) && Arrays.equals(other.damage, damage) && Arrays.equals(other.tags, tags);
+		}
+	}
+}
@@ -279,6 +279,7 @@ public final class MekanismUtils
 	public static void addRecipe(ItemStack output, Object[] params)
 	{
 		CraftingManager.getInstance().getRecipeList().add(new ShapedOreRecipe(output, params));
+		CraftingGridCache.invalidate();
 	}
 
 	/**
@@ -973,6 +974,11 @@ public final class MekanismUtils
 			}
 		}
 
+		if(didRemove)
+		{
+			CraftingGridCache.invalidate();
+		}
+
 		return didRemove;
 	}
 
@@ -1341,17 +1347,9 @@ public final class MekanismUtils
 			return new ItemStack(dmgItems[0].getItem(), 1, solve);
 		}
 
-		List<IRecipe> list = (List<IRecipe>)((ArrayList<IRecipe>)CraftingManager.getInstance().getRecipeList()).clone();
-		
-		for(IRecipe recipe : list)
-		{
-			if(recipe.matches(inv, world))
-			{
-				return recipe.getCraftingResult(inv);
-			}
-		}
+		IRecipe recipe = CraftingGridCache.getRecipe(inv, world);
 
-		return null;
+		return recipe != null ? recipe.getCraftingResult(inv) : null;
 	}
 	
 	/**
@@ -1,6 +1,5 @@
 package mekanism.common.util;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -314,23 +313,13 @@ public class RecipeUtils
 			}
 		}
 		
+		CraftingGridCache.invalidate();
+		
 		return false;
 	}
 	
 	public static IRecipe getRecipeFromGrid(InventoryCrafting inv, World world)
 	{
-		List<IRecipe> list = new ArrayList<IRecipe>(CraftingManager.getInstance().getRecipeList());
-		
-		for(Iterator<IRecipe> iter = list.iterator(); iter.hasNext();)
-		{
-			IRecipe recipe = iter.next();
-			
-			if(recipe.matches(inv, world))
-			{
-				return recipe;
-			}
-		}
-		
-		return null;
+		return CraftingGridCache.getRecipe(inv, world);
 	}
 }
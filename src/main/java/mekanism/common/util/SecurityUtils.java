@@ -97,12 +97,11 @@ public final class SecurityUtils
 	{
 		if(owner != null)
 		{
-			for(Frequency f : Mekanism.securityFrequencies.getFrequencies())
+			Frequency f = Mekanism.securityFrequencies.getFrequency(SecurityFrequency.SECURITY, owner);
+			
+			if(f instanceof SecurityFrequency)
 			{
-				if(f instanceof SecurityFrequency && f.owner.equals(owner))
-				{
-					return (SecurityFrequency)f;
-				}
+				return (SecurityFrequency)f;
 			}
 		}
 		